@@ -0,0 +1,71 @@
+package jh_platform.auth.config;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 쿠키 추출 벤치마크
+ *
+ * 모든 요청마다 실행되는 경로이므로, 다른 쿠키가 여러 개 붙은 요청에서
+ * accessToken이 마지막에 있는 경우(최악)를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieExtractionBenchmark {
+
+    /**
+     * accessToken 앞에 붙는 다른 쿠키 개수
+     */
+    @Param({"0", "8"})
+    private int otherCookies;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletRequest requestWithoutToken;
+
+    @Setup
+    public void setUp() {
+        Cookie[] cookies = new Cookie[otherCookies + 1];
+        for (int i = 0; i < otherCookies; i++) {
+            cookies[i] = new Cookie("cookie" + i, "value" + i);
+        }
+        cookies[otherCookies] = new Cookie("accessToken", "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJiZW5jaCJ9.signature");
+
+        request = new MockHttpServletRequest();
+        request.setCookies(cookies);
+
+        requestWithoutToken = new MockHttpServletRequest();
+        if (otherCookies > 0) {
+            Cookie[] others = new Cookie[otherCookies];
+            System.arraycopy(cookies, 0, others, 0, otherCookies);
+            requestWithoutToken.setCookies(others);
+        }
+    }
+
+    @Benchmark
+    public String extractPresent() {
+        return JwtAuthenticationFilter.extractTokenFromCookie(request);
+    }
+
+    @Benchmark
+    public String extractAbsent() {
+        return JwtAuthenticationFilter.extractTokenFromCookie(requestWithoutToken);
+    }
+}
@@ -0,0 +1,84 @@
+package jh_platform.auth.config;
+
+import jh_platform.auth.model.TokenClaims;
+import jh_platform.auth.model.UserRoles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 생성/검증 벤치마크
+ *
+ * 스프링 컨텍스트 없이 @Value 필드를 직접 채워 init()을 호출합니다.
+ * (HS256: 공유 비밀키, RS256: JwtKeyRing의 RSA 키)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"HS256", "RS256"})
+    private String algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private UserRoles userRoles;
+
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(jwtKeyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(jwtKeyRing, "accessValidityInMs", 3600000L);
+        jwtKeyRing.init();
+
+        jwtTokenProvider = new JwtTokenProvider(jwtKeyRing);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "mySuperSecretKeyForJwtAuth1234567890");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessValidityInMs", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshValidityInMs", 604800000L);
+        jwtTokenProvider.init();
+
+        userRoles = new UserRoles();
+        userRoles.setUsername("bench-user");
+        userRoles.setRoleVersion(3);
+        userRoles.setRoles(List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        accessToken = jwtTokenProvider.createAccessToken("bench-user", "bench-session", userRoles);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken("bench-user", "bench-session", userRoles);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtTokenProvider.getUsername(accessToken);
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+}
@@ -0,0 +1,72 @@
+package jh_platform.auth.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jh_platform.auth.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 벤치마크
+ *
+ * 스프링 MVC와 같은 설정의 ObjectMapper(Jackson2ObjectMapperBuilder 기본값)로
+ * 메시지만 있는 응답과 사용자 정보 응답(/api/auth/user)을 직렬화합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectWriter writer;
+
+    private ApiResponse<Void> messageResponse;
+
+    private ApiResponse<User> userResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        messageResponse = ApiResponse.success("로그인 성공");
+
+        User user = new User();
+        user.setUserId(1L);
+        user.setUsername("bench-user");
+        user.setName("벤치마크");
+        user.setEmail("bench@example.com");
+        user.setPhone("010-0000-0000");
+        user.setStatus("ACTIVE");
+        user.setInitPwYn("N");
+        user.setLoginFailCnt(0);
+        user.setLastLoginDt("2025-01-01 09:00:00");
+        user.setRegDt("2024-01-01 09:00:00");
+        user.setUpdDt("2024-06-01 09:00:00");
+        userResponse = ApiResponse.success(user);
+    }
+
+    @Benchmark
+    public byte[] serializeMessage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(messageResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return writer.writeValueAsBytes(userResponse);
+    }
+}
@@ -0,0 +1,33 @@
+package jh_platform.auth.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ */
+enum Endpoint {
+
+    LOGIN("POST", "/api/auth/login"),
+    USER("GET", "/api/auth/user"),
+    REFRESH("POST", "/api/auth/refresh"),
+    LOGOUT("POST", "/api/auth/logout");
+
+    private final String method;
+
+    private final String path;
+
+    Endpoint(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    String method() {
+        return method;
+    }
+
+    String path() {
+        return path;
+    }
+
+    String label() {
+        return name().toLowerCase();
+    }
+}
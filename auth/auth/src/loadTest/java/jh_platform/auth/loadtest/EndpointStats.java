@@ -0,0 +1,81 @@
+package jh_platform.auth.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 측정 결과
+ *
+ * 지연 시간은 요청을 "보냈어야 하는" 시각부터 응답까지로 기록합니다. (마이크로초)
+ * 서버가 느려져 요청이 밀려도 대기 시간이 그대로 잡히므로 coordinated omission이 생기지 않습니다.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 결과별 건수 (HTTP 상태 코드, timeout, io_error)
+     */
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long latencyMicros, String outcome, boolean error) {
+        latency.recordValue(Math.min(Math.max(latencyMicros, 0), HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+        outcomes.computeIfAbsent("dropped", key -> new LongAdder()).increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * 오류 건수 (dropped 포함)
+     */
+    long errors() {
+        return errors.sum() + dropped.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 오류율 (dropped는 요청 수와 오류 수 양쪽에 포함)
+     */
+    double errorRate() {
+        long total = requests() + dropped();
+        return total == 0 ? 0 : (double) errors() / total;
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,290 @@
+package jh_platform.auth.loadtest;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 생성기
+ *
+ * 응답을 기다렸다가 다음 요청을 보내는 방식(closed model)은 서버가 느려지면 요청도 줄어들어
+ * 지연 시간이 실제보다 좋게 측정되므로, 도착 시각을 미리 정해 두고 응답과 무관하게 요청을 보냅니다.
+ *
+ * - 도착 시각, 엔드포인트, 사용자, 세션 슬롯은 디스패처 스레드 하나가 시드 고정 난수로 정합니다.
+ * - 요청은 가상 스레드에서 실행하고, 처리 중인 요청이 max-in-flight를 넘으면 dropped로 집계합니다.
+ * - user/refresh/logout은 세션 슬롯의 쿠키를 사용하고, 슬롯이 비어 있으면 login으로 대신합니다.
+ */
+final class LoadGenerator {
+
+    private final LoadTestSettings settings;
+
+    private final URI baseUri;
+
+    private final HttpClient httpClient;
+
+    /**
+     * 로그인된 세션 (슬롯 번호로 선택, logout 시 비움)
+     */
+    private final AtomicReferenceArray<Session> sessions;
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    private final Endpoint[] endpoints;
+
+    private final int[] cumulativeWeights;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadGenerator(LoadTestSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.requestTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.sessions = new AtomicReferenceArray<>(settings.sessions());
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        this.endpoints = settings.mix().keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += settings.mix().get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 모든 세션 슬롯을 로그인으로 채움 (측정 제외)
+     */
+    void prepareSessions() throws InterruptedException {
+        List<Callable<Void>> logins = new ArrayList<>();
+        for (int slot = 0; slot < settings.sessions(); slot++) {
+            int user = slot % settings.users();
+            int target = slot;
+            logins.add(() -> {
+                HttpResponse<String> response = send(loginRequest(user));
+                if (isSuccess(response)) {
+                    sessions.set(target, Session.from(response));
+                }
+                return null;
+            });
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.invokeAll(logins);
+        }
+    }
+
+    /**
+     * 워밍업 + 측정 시간 동안 부하를 보내고 엔드포인트별 결과 반환
+     */
+    Map<Endpoint, EndpointStats> run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long start = System.nanoTime();
+        long measureStart = start + settings.warmup().toNanos();
+        long end = measureStart + settings.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        double next = start;
+        while (true) {
+            next += settings.arrival() == LoadTestSettings.Arrival.POISSON
+                    ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+            long intendedStart = (long) next;
+            if (intendedStart >= end) {
+                break;
+            }
+
+            Endpoint endpoint = pickEndpoint(random);
+            int user = random.nextInt(settings.users());
+            int slot = random.nextInt(settings.sessions());
+            boolean measured = intendedStart >= measureStart;
+
+            parkUntil(intendedStart);
+            if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    stats.get(endpoint).recordDropped();
+                }
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    execute(endpoint, user, slot, intendedStart, measured);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(settings.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+        return stats;
+    }
+
+    private void execute(Endpoint endpoint, int user, int slot, long intendedStart, boolean measured) {
+        Endpoint actual = endpoint;
+        Session session = null;
+        if (endpoint == Endpoint.LOGOUT) {
+            session = sessions.getAndSet(slot, null);
+        } else if (endpoint != Endpoint.LOGIN) {
+            session = sessions.get(slot);
+        }
+        if (session == null) {
+            actual = Endpoint.LOGIN;
+        }
+
+        HttpRequest request = switch (actual) {
+            case LOGIN -> loginRequest(user);
+            case USER -> requestBuilder(actual).header("Cookie", session.accessCookie()).GET().build();
+            case REFRESH, LOGOUT -> requestBuilder(actual)
+                    .header("Cookie", session.allCookies())
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+
+        String outcome;
+        boolean error;
+        try {
+            HttpResponse<String> response = send(request);
+            outcome = String.valueOf(response.statusCode());
+            error = !isSuccess(response);
+            if (!error) {
+                if (actual == Endpoint.LOGIN) {
+                    sessions.set(slot, Session.from(response));
+                } else if (actual == Endpoint.REFRESH) {
+                    session.updateFrom(response);
+                }
+            }
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            error = true;
+        } catch (IOException e) {
+            outcome = "io_error";
+            error = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (measured) {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            stats.get(actual).record(latencyMicros, outcome, error);
+        }
+    }
+
+    private HttpRequest loginRequest(int user) {
+        String body = "{\"username\":\"" + LoadTestMain.username(user) + "\",\"password\":\""
+                + LoadTestSettings.PASSWORD + "\"}";
+        return requestBuilder(Endpoint.LOGIN)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder requestBuilder(Endpoint endpoint) {
+        return HttpRequest.newBuilder(baseUri.resolve(endpoint.path()))
+                .timeout(settings.requestTimeout())
+                .header("User-Agent", "auth-loadtest");
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * 2xx/304이고 ApiResponse.success가 false가 아니면 성공
+     * (refresh 등은 실패해도 200 + success:false로 응답하는 경우가 있음)
+     */
+    private static boolean isSuccess(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status == 304) {
+            return true;
+        }
+        return status >= 200 && status < 300 && !response.body().contains("\"success\":false");
+    }
+
+    private Endpoint pickEndpoint(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * 로그인 세션 쿠키 (refresh 시 accessToken만 교체)
+     */
+    private static final class Session {
+
+        private volatile String accessToken;
+
+        private final String refreshToken;
+
+        private Session(String accessToken, String refreshToken) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+        }
+
+        static Session from(HttpResponse<?> response) {
+            return new Session(cookie(response, "accessToken"), cookie(response, "refreshToken"));
+        }
+
+        void updateFrom(HttpResponse<?> response) {
+            String token = cookie(response, "accessToken");
+            if (token != null) {
+                this.accessToken = token;
+            }
+        }
+
+        String accessCookie() {
+            return "accessToken=" + accessToken;
+        }
+
+        String allCookies() {
+            return "accessToken=" + accessToken + "; refreshToken=" + refreshToken;
+        }
+
+        private static String cookie(HttpResponse<?> response, String name) {
+            for (String header : response.headers().allValues("Set-Cookie")) {
+                for (HttpCookie cookie : HttpCookie.parse(header)) {
+                    if (name.equals(cookie.getName())) {
+                        return cookie.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package jh_platform.auth.loadtest;
+
+import jh_platform.auth.AuthApplication;
+import jh_platform.auth.mapper.UserMapper;
+import jh_platform.auth.model.User;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ *
+ * 1. loadtest 프로필(+ loadtest.profiles)로 AuthApplication 기동 (H2 인메모리 DB, 임의 포트)
+ * 2. UserMapper로 사용자 users명 등록 (BATCH INSERT) + ROLE_USER 부여
+ * 3. 세션 슬롯을 로그인으로 채운 뒤 워밍업 + 측정 시간 동안 고정 도착률로 요청
+ * 4. report-dir에 보고서 작성, 오류율/p99 기준 초과 시 종료 코드 1
+ *
+ * 네트워크 없이 한 대의 리눅스 서버에서 실행되며, 같은 시드/설정이면 같은 요청 순서를 보냅니다.
+ * 실행 모드(SPRING_THREADS_VIRTUAL_ENABLED)만 바꿔 두 번 실행하면 같은 시나리오의 오류율/지연 시간을 비교할 수 있습니다.
+ */
+public final class LoadTestMain {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AuthApplication.class)
+                .profiles("loadtest")
+                .profiles(settings.profiles())
+                .run(args)) {
+            seedUsers(context, settings.users());
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator generator = new LoadGenerator(settings, URI.create("http://127.0.0.1:" + port));
+
+            System.out.printf("세션 %d개 로그인 중...%n", settings.sessions());
+            generator.prepareSessions();
+
+            System.out.printf("부하 시작: rate=%.0f/s, warmup=%ds, duration=%ds, mix=%s%n",
+                    settings.rate(), settings.warmup().toSeconds(), settings.duration().toSeconds(), settings.mix());
+            Map<Endpoint, EndpointStats> stats = generator.run();
+
+            passed = new LoadTestReport(settings, stats).write();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    static String username(int index) {
+        return String.format("loadtest%06d", index);
+    }
+
+    /**
+     * 사용자 등록 (비밀번호 해시는 한 번만 계산해 모든 사용자에게 사용)
+     */
+    private static void seedUsers(ConfigurableApplicationContext context, int users) {
+        String password = context.getBean(PasswordEncoder.class).encode(LoadTestSettings.PASSWORD);
+        SqlSessionFactory sqlSessionFactory = context.getBean(SqlSessionFactory.class);
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            UserMapper userMapper = sqlSession.getMapper(UserMapper.class);
+            for (int i = 0; i < users; i++) {
+                User user = new User();
+                user.setUsername(username(i));
+                user.setPassword(password);
+                user.setName("부하테스트" + i);
+                user.setEmail(username(i) + "@loadtest.local");
+                userMapper.insertUser(user);
+                if ((i + 1) % SEED_BATCH_SIZE == 0) {
+                    sqlSession.flushStatements();
+                }
+            }
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO TB_USER_ROLE (USER_ID, ROLE_ID)
+                SELECT U.USER_ID, R.ROLE_ID
+                FROM TB_USER U, TB_ROLE R
+                WHERE R.ROLE_CODE = 'ROLE_USER'
+                """);
+        System.out.printf("사용자 %d명 등록 완료%n", users);
+    }
+}
@@ -0,0 +1,136 @@
+package jh_platform.auth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 보고서
+ *
+ * report-dir 아래에 다음 파일을 남깁니다.
+ * - report.json: 설정, 엔드포인트별 요청 수/오류율/지연 시간 백분위 (리뷰 첨부용)
+ * - {endpoint}.hgrm: HdrHistogram 백분위 분포 (밀리초, HistogramLogAnalyzer 등으로 그래프화)
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestSettings settings;
+
+    private final Map<Endpoint, EndpointStats> stats;
+
+    LoadTestReport(LoadTestSettings settings, Map<Endpoint, EndpointStats> stats) {
+        this.settings = settings;
+        this.stats = stats;
+    }
+
+    /**
+     * 보고서를 파일로 쓰고 콘솔에 요약 출력
+     *
+     * @return 오류율/p99 기준을 모두 만족하면 true
+     */
+    boolean write() throws IOException {
+        Files.createDirectories(settings.reportDir());
+
+        Histogram total = new Histogram(3);
+        long totalRequests = 0;
+        long totalErrors = 0;
+        long totalDropped = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            if (endpointStats.requests() + endpointStats.dropped() == 0) {
+                continue;
+            }
+            Histogram latency = endpointStats.latency().copy();
+            total.add(latency);
+            totalRequests += endpointStats.requests();
+            totalErrors += endpointStats.errors();
+            totalDropped += endpointStats.dropped();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", endpointStats.requests());
+            values.put("errors", endpointStats.errors());
+            values.put("errorRate", endpointStats.errorRate());
+            values.put("throughput", endpointStats.requests() / (double) settings.duration().toSeconds());
+            values.put("outcomes", endpointStats.outcomes());
+            values.put("latencyMillis", percentiles(latency));
+            endpoints.put(entry.getKey().label(), values);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    settings.reportDir().resolve(entry.getKey().label() + ".hgrm")))) {
+                latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        long attempted = totalRequests + totalDropped;
+        double errorRate = attempted == 0 ? 0 : (double) totalErrors / attempted;
+        double p99Millis = total.getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+        boolean errorRatePassed = errorRate <= settings.maxErrorRate();
+        boolean p99Passed = settings.maxP99Millis() <= 0 || p99Millis <= settings.maxP99Millis();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", totalRequests);
+        summary.put("errors", totalErrors);
+        summary.put("dropped", totalDropped);
+        summary.put("errorRate", errorRate);
+        summary.put("throughput", totalRequests / (double) settings.duration().toSeconds());
+        summary.put("latencyMillis", percentiles(total));
+        summary.put("errorRatePassed", errorRatePassed);
+        summary.put("p99Passed", p99Passed);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("settings", settings.describe());
+        report.put("summary", summary);
+        report.put("endpoints", endpoints);
+
+        Path reportFile = settings.reportDir().resolve("report.json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile.toFile(), report);
+
+        printSummary(endpoints, errorRate, p99Millis, reportFile);
+        return errorRatePassed && p99Passed;
+    }
+
+    private static Map<String, Object> percentiles(Histogram latency) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("p50", latency.getValueAtPercentile(50.0) / MICROS_PER_MILLI);
+        values.put("p90", latency.getValueAtPercentile(90.0) / MICROS_PER_MILLI);
+        values.put("p99", latency.getValueAtPercentile(99.0) / MICROS_PER_MILLI);
+        values.put("p999", latency.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+        values.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+        values.put("mean", latency.getMean() / MICROS_PER_MILLI);
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printSummary(Map<String, Object> endpoints, double errorRate, double p99Millis, Path reportFile) {
+        System.out.printf("%n부하 테스트 결과 (rate=%.0f/s, %s, %d초)%n",
+                settings.rate(), settings.arrival(), settings.duration().toSeconds());
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "error%", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        endpoints.forEach((name, value) -> {
+            Map<String, Object> values = (Map<String, Object>) value;
+            Map<String, Object> latency = (Map<String, Object>) values.get("latencyMillis");
+            System.out.printf("%-8s %10d %8.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    name, values.get("requests"), (double) values.get("errorRate") * 100,
+                    latency.get("p50"), latency.get("p99"), latency.get("p999"), latency.get("max"));
+        });
+        System.out.printf("전체 오류율 %.2f%% (기준 %.2f%%), 전체 p99 %.2fms%s%n",
+                errorRate * 100, settings.maxErrorRate() * 100, p99Millis,
+                settings.maxP99Millis() > 0 ? " (기준 " + settings.maxP99Millis() + "ms)" : "");
+        System.out.println("보고서: " + reportFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,119 @@
+package jh_platform.auth.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, gradle -Ploadtest.* 로 전달)
+ *
+ * 사용 예시:
+ * ./gradlew loadTest -Ploadtest.rate=300 -Ploadtest.duration=2m -Ploadtest.mix=login:5,user:80,refresh:10,logout:5
+ * SPRING_THREADS_VIRTUAL_ENABLED=true ./gradlew loadTest   (가상 스레드 모드로 같은 시나리오 실행)
+ *
+ * @param users           미리 등록할 사용자 수
+ * @param sessions        동시에 유지할 로그인 세션 수 (user/refresh/logout 요청이 사용)
+ * @param rate            초당 요청 도착 수 (응답 속도와 무관하게 일정, open model)
+ * @param arrival         도착 간격 분포 (POISSON: 지수 분포, CONSTANT: 고정 간격)
+ * @param warmup          측정에서 제외할 워밍업 시간
+ * @param duration        측정 시간
+ * @param mix             엔드포인트별 가중치
+ * @param requestTimeout  요청 하나의 응답 제한 시간
+ * @param maxInFlight     동시에 처리 중인 요청 상한 (초과 도착은 dropped로 집계)
+ * @param seed            사용자/엔드포인트 선택 난수 시드 (같은 시드면 같은 요청 순서)
+ * @param maxErrorRate    허용 오류율 (초과 시 종료 코드 1)
+ * @param maxP99Millis    허용 p99 (밀리초, 0이면 확인 안 함, 초과 시 종료 코드 1)
+ * @param reportDir       보고서 출력 디렉터리
+ * @param profiles        loadtest 프로필에 더해 활성화할 프로필
+ */
+record LoadTestSettings(
+        int users,
+        int sessions,
+        double rate,
+        Arrival arrival,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        Duration requestTimeout,
+        int maxInFlight,
+        long seed,
+        double maxErrorRate,
+        long maxP99Millis,
+        Path reportDir,
+        String[] profiles
+) {
+
+    static final String PASSWORD = "LoadTest1234!";
+
+    enum Arrival { POISSON, CONSTANT }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(property("users", "1000")),
+                Integer.parseInt(property("sessions", "200")),
+                Double.parseDouble(property("rate", "100")),
+                Arrival.valueOf(property("arrival", "poisson").toUpperCase()),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "60s")),
+                parseMix(property("mix", "login:10,user:70,refresh:15,logout:5")),
+                DurationStyle.detectAndParse(property("timeout", "5s")),
+                Integer.parseInt(property("max-in-flight", "10000")),
+                Long.parseLong(property("seed", "42")),
+                Double.parseDouble(property("max-error-rate", "0.01")),
+                Long.parseLong(property("max-p99-millis", "0")),
+                Path.of(property("report-dir", "build/reports/loadtest")),
+                Arrays.stream(property("profiles", "").split(","))
+                        .map(String::trim)
+                        .filter(profile -> !profile.isEmpty())
+                        .toArray(String[]::new)
+        );
+    }
+
+    /**
+     * 보고서에 남길 설정 값
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("users", users);
+        values.put("sessions", sessions);
+        values.put("rate", rate);
+        values.put("arrival", arrival);
+        values.put("warmupSeconds", warmup.toSeconds());
+        values.put("durationSeconds", duration.toSeconds());
+        values.put("mix", mix);
+        values.put("timeoutMillis", requestTimeout.toMillis());
+        values.put("maxInFlight", maxInFlight);
+        values.put("seed", seed);
+        values.put("maxErrorRate", maxErrorRate);
+        values.put("maxP99Millis", maxP99Millis);
+        values.put("profiles", profiles);
+        return values;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류 (endpoint:weight): " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 엔드포인트가 없습니다.");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,71 @@
+-- 부하 테스트용 H2 스키마 (테이블.sql과 같은 구조, H2 MariaDB 호환 모드 문법)
+
+CREATE TABLE TB_USER (
+    USER_ID          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    USERNAME         VARCHAR(50) NOT NULL UNIQUE,
+    PASSWORD         VARCHAR(255) NOT NULL,
+    NAME             VARCHAR(100),
+    EMAIL            VARCHAR(100),
+    PHONE            VARCHAR(20),
+    STATUS           VARCHAR(10) DEFAULT 'ACTIVE',
+    LOGIN_FAIL_CNT   INT DEFAULT 0,
+    LAST_LOGIN_DT    DATETIME,
+    LAST_FAIL_DT     DATETIME,
+    INIT_PW_YN       CHAR(1) DEFAULT 'Y',
+    ROLE_VER         INT NOT NULL DEFAULT 0,
+    LAST_UPDATE_PASS DATETIME DEFAULT CURRENT_TIMESTAMP,
+    REG_DT           DATETIME DEFAULT CURRENT_TIMESTAMP,
+    UPD_DT           DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE TB_ROLE (
+    ROLE_ID   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ROLE_CODE VARCHAR(50) NOT NULL UNIQUE,
+    ROLE_NM   VARCHAR(100),
+    ROLE_DC   VARCHAR(255),
+    USE_AT    CHAR(1) DEFAULT 'Y',
+    REG_DT    DATETIME DEFAULT CURRENT_TIMESTAMP,
+    UPD_DT    DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE TB_USER_ROLE (
+    USER_ROLE_ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    USER_ID      BIGINT NOT NULL,
+    ROLE_ID      BIGINT NOT NULL,
+    GRANT_DT     DATETIME DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_USERROLE_USER FOREIGN KEY (USER_ID) REFERENCES TB_USER(USER_ID),
+    CONSTRAINT FK_USERROLE_ROLE FOREIGN KEY (ROLE_ID) REFERENCES TB_ROLE(ROLE_ID)
+);
+
+CREATE TABLE TB_LOGIN_HISTORY (
+    LOGIN_HIS_ID  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    USER_ID       BIGINT,
+    USERNAME      VARCHAR(50),
+    DOMAIN_SE     VARCHAR(50),
+    LOGIN_IP      VARCHAR(45),
+    LOGIN_RESULT  VARCHAR(10),
+    FAIL_REASON   VARCHAR(255),
+    USER_AGENT    VARCHAR(255),
+    LOGIN_DT      DATETIME DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_LOGIN_USER FOREIGN KEY (USER_ID) REFERENCES TB_USER(USER_ID)
+);
+
+CREATE TABLE TB_USER_REFRESH_TOKEN (
+    SESSION_ID     CHAR(36) NOT NULL PRIMARY KEY,
+    USERNAME       VARCHAR(50) NOT NULL,
+    REFRESH_TOKEN  VARCHAR(512),
+    TOKEN_HASH     BINARY(32),
+    LOGIN_IP       VARCHAR(45),
+    USER_AGENT     VARCHAR(255),
+    EXPIRES_AT     DATETIME NOT NULL,
+    REVOKED_YN     CHAR(1) DEFAULT 'N',
+    REG_DT         DATETIME DEFAULT CURRENT_TIMESTAMP,
+    UPD_DT         DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT FK_USER_REFRESH_USER FOREIGN KEY (USERNAME) REFERENCES TB_USER(USERNAME),
+    CONSTRAINT UK_USER_REFRESH_TOKEN_HASH UNIQUE (TOKEN_HASH)
+);
+
+CREATE INDEX IX_USER_REFRESH_TOKEN_USER ON TB_USER_REFRESH_TOKEN (USERNAME, EXPIRES_AT);
+CREATE INDEX IX_USER_REFRESH_TOKEN_EXPIRES ON TB_USER_REFRESH_TOKEN (EXPIRES_AT);
+
+INSERT INTO TB_ROLE (ROLE_CODE, ROLE_NM) VALUES ('ROLE_USER', '일반 사용자');
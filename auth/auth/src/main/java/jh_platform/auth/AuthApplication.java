@@ -1,9 +1,14 @@
 package jh_platform.auth;
 
+import jh_platform.auth.config.AuthRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
+@ImportRuntimeHints(AuthRuntimeHints.class)
 public class AuthApplication {
 
     public static void main(String[] args) {
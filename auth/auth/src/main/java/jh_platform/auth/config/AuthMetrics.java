@@ -0,0 +1,133 @@
+package jh_platform.auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jh_platform.auth.exception.AccountLockedException;
+import jh_platform.auth.exception.InvalidPasswordException;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.exception.ServiceBusyException;
+import jh_platform.auth.exception.UserNotFoundException;
+import jh_platform.auth.exception.UsernameAlreadyExistsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 인증 흐름 단계별 시간 측정 (Micrometer)
+ *
+ * - auth.flow{flow, outcome}: 흐름 전체 (login, refresh, signup, user_info)
+ * - auth.flow.phase{flow, phase, outcome}: 흐름 안의 단계 (lookup, password, token, session 등)
+ * - auth.token.verify{outcome}: JwtAuthenticationFilter의 access token 확인
+ *
+ * 태그 값은 정해진 몇 가지만 사용합니다. (사용자명, 경로 등 값이 계속 늘어나는 태그는 사용 금지)
+ * 히스토그램/백분위는 management.metrics.distribution 설정으로 켭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+    public static final String SUCCESS = "success";
+
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 흐름 전체를 실행하고 결과(outcome)와 함께 시간을 기록합니다. (예외는 그대로 다시 던짐)
+     *
+     * @param flow login, refresh, signup, user_info
+     */
+    public <T> T flow(String flow, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.flow")
+                    .description("인증 흐름 전체 처리 시간")
+                    .tag("flow", flow)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 흐름 안의 한 단계를 실행하고 시간을 기록합니다. (예외는 그대로 다시 던짐)
+     */
+    public <T> T phase(String flow, String phase, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.flow.phase")
+                    .description("인증 흐름 단계별 처리 시간")
+                    .tag("flow", flow)
+                    .tag("phase", phase)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 반환값이 없는 단계 실행
+     */
+    public void phase(String flow, String phase, Runnable body) {
+        phase(flow, phase, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * access token 확인 측정 시작 (JwtAuthenticationFilter)
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * access token 확인 시간 기록 (JwtAuthenticationFilter)
+     *
+     * @param outcome valid 또는 InvalidTokenException.Reason 소문자
+     */
+    public void recordTokenVerification(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("auth.token.verify")
+                .description("access token 확인 시간 (캐시 포함)")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 예외를 낮은 카디널리티의 outcome 태그 값으로 변환
+     */
+    public static String outcome(Throwable e) {
+        if (e instanceof UserNotFoundException) {
+            return "user_not_found";
+        }
+        if (e instanceof InvalidPasswordException) {
+            return "invalid_credentials";
+        }
+        if (e instanceof AccountLockedException) {
+            return "locked";
+        }
+        if (e instanceof ServiceBusyException) {
+            return "busy";
+        }
+        if (e instanceof InvalidTokenException invalidTokenException) {
+            return invalidTokenException.getReason().name().toLowerCase(Locale.ROOT);
+        }
+        if (e instanceof UsernameAlreadyExistsException) {
+            return "duplicate";
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,146 @@
+package jh_platform.auth.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jh_platform.auth.service.LoginActivityTracker;
+import jh_platform.auth.service.LoginHistoryWriter;
+import jh_platform.auth.service.PasswordHasher;
+import jh_platform.auth.service.RefreshTokenReaper;
+import jh_platform.auth.service.RefreshTokenStore;
+import jh_platform.auth.service.RoleResolver;
+import jh_platform.auth.service.UserProfileStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 각 컴포넌트가 이미 제공하는 카운터/게이지와 캐시 통계를 Micrometer에 등록
+ *
+ * 컴포넌트 안에서는 LongAdder 등으로 값만 모으고, 등록은 여기서 한 번에 합니다.
+ * (/actuator/prometheus에서 조회, prod 프로필은 management.server.port에서만 제공)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetricsBinder implements MeterBinder {
+
+    private final PasswordHasher passwordHasher;
+
+    private final LoginHistoryWriter loginHistoryWriter;
+
+    private final LoginActivityTracker loginActivityTracker;
+
+    private final RefreshTokenReaper refreshTokenReaper;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final RevocationFeed revocationFeed;
+
+    private final RateLimitFilter rateLimitFilter;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final RoleResolver roleResolver;
+
+    private final UserProfileStore userProfileStore;
+
+    private final ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor;
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    private final ObjectProvider<ReadWriteRoutingDataSource> readWriteRoutingDataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 비밀번호 해시 실행기
+        gauge(registry, "auth.password.hasher.queue.depth", passwordHasher, PasswordHasher::getQueueDepth);
+        gauge(registry, "auth.password.hasher.active", passwordHasher, PasswordHasher::getActiveCount);
+        counter(registry, "auth.password.hasher.completed", passwordHasher, PasswordHasher::getCompletedCount);
+        counter(registry, "auth.password.hasher.rejected", passwordHasher, PasswordHasher::getRejectedCount);
+        FunctionCounter.builder("auth.password.hasher.wait", passwordHasher, h -> h.getTotalWaitNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+        gauge(registry, "auth.password.hasher.wait.max.seconds", passwordHasher, h -> h.getMaxWaitNanos() / 1e9);
+
+        // 로그인 이력 기록기
+        gauge(registry, "auth.login.history.queue.depth", loginHistoryWriter, LoginHistoryWriter::getQueueDepth);
+        counter(registry, "auth.login.history.enqueued", loginHistoryWriter, LoginHistoryWriter::getEnqueuedCount);
+        counter(registry, "auth.login.history.dropped", loginHistoryWriter, LoginHistoryWriter::getDroppedCount);
+        counter(registry, "auth.login.history.written", loginHistoryWriter, LoginHistoryWriter::getWrittenCount);
+        counter(registry, "auth.login.history.failed", loginHistoryWriter, LoginHistoryWriter::getFailedCount);
+
+        // 로그인 실패 횟수/마지막 로그인 일시 누적기
+        gauge(registry, "auth.login.activity.tracked", loginActivityTracker, LoginActivityTracker::getTrackedUserCount);
+        counter(registry, "auth.login.activity.flushed", loginActivityTracker, LoginActivityTracker::getFlushedCount);
+        counter(registry, "auth.login.activity.flush.failed", loginActivityTracker, LoginActivityTracker::getFlushFailedCount);
+
+        // 만료 세션 정리
+        FunctionCounter.builder("auth.refresh.reaper.purged", refreshTokenReaper, RefreshTokenReaper::getPurgedExpiredCount)
+                .tag("reason", "expired")
+                .register(registry);
+        counter(registry, "auth.refresh.reaper.runs", refreshTokenReaper, RefreshTokenReaper::getRunCount);
+        gauge(registry, "auth.refresh.reaper.last.run.seconds", refreshTokenReaper,
+                r -> r.getLastRunDurationMillis() / 1e3);
+
+        // access token 폐기 목록, 속도 제한
+        gauge(registry, "auth.token.revoked", tokenRevocationList, TokenRevocationList::getRevokedTokenCount);
+        counter(registry, "auth.token.revoked.rejected", tokenRevocationList, TokenRevocationList::getRejectedCount);
+        gauge(registry, "auth.revocation.feed.events", revocationFeed, RevocationFeed::size);
+        counter(registry, "auth.rate.limit.rejected", rateLimitFilter, RateLimitFilter::getRejectedCount);
+
+        // 인메모리 캐시
+        cache(registry, "verified_token", verifiedTokenCache::stats);
+        cache(registry, "refresh_token", refreshTokenStore::stats);
+        cache(registry, "role", roleResolver::stats);
+        cache(registry, "user_profile", userProfileStore::stats);
+
+        // 가상 스레드 모드 전용
+        virtualThreadPinningMonitor.ifAvailable(monitor ->
+                counter(registry, "auth.virtual.thread.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount));
+        dataSource.ifAvailable(ds -> {
+            if (ds instanceof ConnectionLimitingDataSource limited) {
+                gauge(registry, "auth.datasource.guard.available", limited, ConnectionLimitingDataSource::getAvailablePermits);
+                gauge(registry, "auth.datasource.guard.waiting", limited, ConnectionLimitingDataSource::getWaitingThreads);
+            }
+        });
+
+        // 읽기/쓰기 분리 사용 시
+        readWriteRoutingDataSource.ifAvailable(routing -> {
+            gauge(registry, "auth.datasource.replica.healthy", routing, r -> r.isReplicaHealthy() ? 1 : 0);
+            counter(registry, "auth.datasource.replica.fallback", routing, ReadWriteRoutingDataSource::getReplicaFallbackCount);
+        });
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, target, value).register(registry);
+    }
+
+    /**
+     * Caffeine 통계를 Micrometer 캐시 지표 이름(cache.gets, cache.evictions)으로 등록
+     */
+    private static void cache(MeterRegistry registry, String name, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().hitCount())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().missCount())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats, s -> s.get().evictionCount())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
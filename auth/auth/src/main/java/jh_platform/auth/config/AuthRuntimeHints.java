@@ -0,0 +1,118 @@
+package jh_platform.auth.config;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * GraalVM native image용 리플렉션/리소스/프록시 힌트
+ *
+ * Spring AOT(processAot)가 빌드 시점에 호출하며, 스프링이 스스로 알 수 없는 부분만 등록합니다.
+ * - MyBatis: mapper/*.xml, DTD, @Mapper 인터페이스 JDK 프록시, XML에서 이름으로 찾는 내부 클래스
+ * - 모델/DTO: MyBatis 결과 매핑과 Jackson 직렬화가 Lombok getter/setter를 리플렉션으로 사용
+ * - jjwt 0.11: jjwt-api가 구현 클래스를 이름으로 생성
+ *
+ * 매퍼, 모델, DTO는 패키지를 스캔해 등록하므로 클래스를 추가해도 여기를 고칠 필요가 없습니다.
+ */
+public class AuthRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "jh_platform.auth";
+
+    private static final List<String> MYBATIS_TYPES = List.of(
+            "org.apache.ibatis.scripting.xmltags.XMLLanguageDriver",
+            "org.apache.ibatis.scripting.defaults.RawLanguageDriver",
+            "org.apache.ibatis.logging.slf4j.Slf4jImpl",
+            "org.apache.ibatis.logging.nologging.NoLoggingImpl",
+            "org.apache.ibatis.cache.impl.PerpetualCache",
+            "org.apache.ibatis.cache.decorators.LruCache",
+            "org.apache.ibatis.cache.decorators.FifoCache",
+            "org.apache.ibatis.cache.decorators.SoftCache",
+            "org.apache.ibatis.cache.decorators.WeakCache",
+            "java.util.ArrayList",
+            "java.util.HashMap",
+            "java.util.HashSet",
+            "java.util.TreeSet"
+    );
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // MyBatis 매퍼 XML과 XML 검증용 DTD
+        hints.resources()
+                .registerPattern("mapper/*.xml")
+                .registerPattern("org/apache/ibatis/builder/xml/*.dtd")
+                .registerPattern("org/apache/ibatis/builder/xml/*.xsd")
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        // @Mapper 인터페이스 (MapperProxyFactory가 JDK 프록시 생성, MapperMethod가 메서드 시그니처 조회)
+        for (Class<?> mapper : scan(classLoader, BASE_PACKAGE + ".mapper", new AnnotationTypeFilter(Mapper.class))) {
+            hints.proxies().registerJdkProxy(mapper);
+            hints.reflection().registerType(mapper, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // 모델/DTO (Jackson 바인딩 + MyBatis Reflector의 필드 조회)
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        Stream.concat(scan(classLoader, BASE_PACKAGE + ".model", (reader, factory) -> true).stream(),
+                        scan(classLoader, BASE_PACKAGE + ".dto", (reader, factory) -> true).stream())
+                .forEach(type -> {
+                    bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+                    hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS);
+                });
+
+        registerConstructors(hints, MYBATIS_TYPES);
+        registerConstructors(hints, JJWT_TYPES);
+    }
+
+    private static void registerConstructors(RuntimeHints hints, List<String> typeNames) {
+        for (String typeName : typeNames) {
+            hints.reflection().registerType(TypeReference.of(typeName),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+
+    /**
+     * 패키지에서 조건에 맞는 클래스/인터페이스 검색 (빌드 시점 클래스패스)
+     */
+    private static List<Class<?>> scan(ClassLoader classLoader, String basePackage,
+                                       TypeFilter filter) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+        provider.addIncludeFilter(filter);
+
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
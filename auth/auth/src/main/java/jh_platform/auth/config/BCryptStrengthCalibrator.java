@@ -0,0 +1,58 @@
+package jh_platform.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * BCrypt 비용(strength) 보정기
+ *
+ * 실제 실행 중인 호스트에서 최소 비용으로 해시 시간을 측정하고,
+ * 목표 지연 시간(target-hash-millis)을 넘지 않는 가장 높은 비용을 고릅니다.
+ * BCrypt는 비용이 1 오를 때마다 연산량이 2배가 되므로 한 번 측정한 값으로 추정합니다.
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * 목표 지연 시간에 맞는 BCrypt 비용을 계산합니다.
+     *
+     * @param targetMillis 해시 1회당 목표 지연 시간 (밀리초)
+     * @param minStrength 최소 비용 (측정 기준)
+     * @param maxStrength 최대 비용
+     * @return 선택된 비용
+     */
+    static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode("calibration-warm-up");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double baseMillis = samples[SAMPLES / 2] / 1_000_000.0;
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= targetMillis) {
+            strength++;
+        }
+
+        if (baseMillis > targetMillis) {
+            log.warn("BCrypt 보정: 최소 비용 {}에서도 {}ms로 목표 {}ms를 초과합니다.", minStrength,
+                    String.format("%.1f", baseMillis), targetMillis);
+        }
+        log.info("BCrypt 보정: 비용 {} 기준 {}ms -> 비용 {} 선택 (예상 {}ms, 목표 {}ms)", minStrength,
+                String.format("%.1f", baseMillis), strength,
+                String.format("%.1f", baseMillis * (1L << (strength - minStrength))), targetMillis);
+        return strength;
+    }
+}
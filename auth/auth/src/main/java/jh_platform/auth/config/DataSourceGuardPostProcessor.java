@@ -0,0 +1,40 @@
+package jh_platform.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * HikariDataSource 빈을 ConnectionLimitingDataSource로 감싸는 후처리기
+ *
+ * datasource-guard.enabled=true일 때만 동작하며,
+ * 허가 수를 지정하지 않으면 각 풀의 maximum-pool-size를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class DataSourceGuardPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private DataSourceGuardProperties properties = new DataSourceGuardProperties();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.properties = Binder.get(environment)
+                .bind("datasource-guard", DataSourceGuardProperties.class)
+                .orElseGet(DataSourceGuardProperties::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!properties.isEnabled() || !(bean instanceof HikariDataSource hikariDataSource)) {
+            return bean;
+        }
+        int permits = properties.getPermits() > 0 ? properties.getPermits() : hikariDataSource.getMaximumPoolSize();
+        log.info("DataSource 동시 접근 제한: bean={}, 허가 {}개, 대기 {}ms",
+                beanName, permits, properties.getAcquireTimeoutMillis());
+        return new ConnectionLimitingDataSource(hikariDataSource, permits, properties.getAcquireTimeoutMillis());
+    }
+}
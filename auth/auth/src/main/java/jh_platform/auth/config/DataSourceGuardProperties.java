@@ -0,0 +1,36 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DataSource 동시 접근 제한 설정
+ *
+ * application.yml의 datasource-guard 설정을 읽어옵니다.
+ * BeanPostProcessor에서 사용하므로 빈이 아니라 Binder로 직접 바인딩합니다.
+ *
+ * 사용 예시:
+ * datasource-guard:
+ *   enabled: true
+ *   permits: 0
+ *   acquire-timeout-millis: 3000
+ */
+@Getter
+@Setter
+public class DataSourceGuardProperties {
+
+    /**
+     * 세마포어 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 동시에 커넥션을 빌릴 수 있는 요청 수 (0이면 커넥션 풀 최대 크기)
+     */
+    private int permits = 0;
+
+    /**
+     * 허가를 기다리는 최대 시간 (밀리초)
+     */
+    private long acquireTimeoutMillis = 3000;
+}
@@ -0,0 +1,75 @@
+package jh_platform.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 DataSource 구성 (datasource-routing.enabled=true일 때만)
+ *
+ * - primaryDataSource: spring.datasource(.hikari) 설정 그대로
+ * - replicaDataSource: datasource-routing.replica 설정, 읽기 전용
+ * - dataSource: 두 풀을 감싼 ReadWriteRoutingDataSource (MyBatis, 트랜잭션 매니저가 사용)
+ *
+ * 두 풀 모두 빈으로 등록하므로 datasource-guard가 켜져 있으면 각각 감싸집니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              DataSourceRoutingProperties routingProperties) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.getReplica();
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeoutMillis());
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 기동은 되도록 (읽기는 primary로 전환됨)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                 DataSourceRoutingProperties routingProperties) {
+        log.info("읽기/쓰기 분리 DataSource 사용: replica={}", routingProperties.getReplica().getUrl());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                routingProperties.getHealthCheckTimeoutSeconds());
+    }
+
+    /**
+     * MyBatis 자동 설정이 Interceptor 빈을 SqlSessionFactory에 등록
+     */
+    @Bean
+    public ReadWriteRoutingInterceptor readWriteRoutingInterceptor(DataSourceRoutingProperties routingProperties) {
+        return new ReadWriteRoutingInterceptor(routingProperties.getPrimaryStatements());
+    }
+}
@@ -0,0 +1,93 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 Properties
+ *
+ * application.yml의 datasource-routing 설정을 읽어옵니다.
+ * 쓰기(primary)는 spring.datasource 설정을 그대로 사용하고, 읽기 전용 복제본만 여기서 지정합니다.
+ *
+ * 사용 예시:
+ * datasource-routing:
+ *   enabled: true
+ *   replica:
+ *     url: jdbc:mariadb://replica-host:7411/authdb
+ *     username: authuser
+ *     password: authpass
+ *     maximum-pool-size: 20
+ *   health-check-interval-millis: 5000
+ *   primary-statements:
+ *     - jh_platform.auth.mapper.RefreshTokenMapper.
+ *     - jh_platform.auth.mapper.RoleMapper.
+ *     - jh_platform.auth.mapper.UserMapper.findByUsername
+ *     - jh_platform.auth.mapper.UserMapper.findLoginActivity
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+
+    /**
+     * 읽기/쓰기 분리 사용 여부 (false면 spring.datasource 하나만 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 전용 복제본 접속 정보
+     */
+    private Replica replica = new Replica();
+
+    /**
+     * 복제본 상태 확인 주기 (밀리초)
+     */
+    private long healthCheckIntervalMillis = 5000;
+
+    /**
+     * 복제본 상태 확인 제한 시간 (초, Connection.isValid)
+     */
+    private int healthCheckTimeoutSeconds = 1;
+
+    /**
+     * 복제 지연을 허용할 수 없어 항상 primary에서 읽을 매퍼 네임스페이스(끝이 .) 또는 statement ID
+     *
+     * 기본 포함:
+     * - RefreshTokenMapper: 세션 폐기 직후 복제본에서 폐기 전 세션을 읽으면 안 됨
+     * - RoleMapper, UserMapper.findByUsername: 변경 후 무효화된 권한/사용자 정보 캐시를 다시 채우는 조회
+     *   (복제본의 이전 값을 읽으면 캐시 TTL 동안 그대로 남음)
+     * - UserMapper.findLoginActivity: 로그인 실패 횟수 초기화 (복제본의 이전 횟수에서 이어 세면 안 됨)
+     */
+    private List<String> primaryStatements = new ArrayList<>(List.of(
+            "jh_platform.auth.mapper.RefreshTokenMapper.",
+            "jh_platform.auth.mapper.RoleMapper.",
+            "jh_platform.auth.mapper.UserMapper.findByUsername",
+            "jh_platform.auth.mapper.UserMapper.findLoginActivity"));
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * 복제본 커넥션 풀 최대 크기
+         */
+        private int maximumPoolSize = 10;
+
+        /**
+         * 복제본 커넥션 대기 시간 (밀리초, 짧게 잡아 장애 시 빨리 primary로 전환)
+         */
+        private long connectionTimeoutMillis = 1000;
+    }
+}
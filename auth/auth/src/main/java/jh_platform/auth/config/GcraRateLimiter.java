@@ -0,0 +1,85 @@
+package jh_platform.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA: Generic Cell Rate Algorithm)
+ *
+ * 키마다 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만 AtomicLong으로 저장하고,
+ * CAS로 갱신하므로 락이 없습니다.
+ *
+ * - period 동안 permits회, 한꺼번에 최대 permits회(버킷 크기)까지 허용
+ * - 키 수는 maximum-keys로 제한, idle-timeout 동안 요청이 없는 키는 제거
+ * - release()로 허용했던 1회를 되돌릴 수 있음 (성공한 로그인은 횟수에서 제외)
+ */
+class GcraRateLimiter {
+
+    private final Cache<String, AtomicLong> theoreticalArrivalTimes;
+
+    /**
+     * 현재 시각 (나노초, 테스트에서 교체)
+     */
+    private final LongSupplier nanoTime;
+
+    GcraRateLimiter(long maximumKeys, Duration idleTimeout) {
+        this(maximumKeys, idleTimeout, System::nanoTime);
+    }
+
+    GcraRateLimiter(long maximumKeys, Duration idleTimeout, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.theoreticalArrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 요청 1회를 허용할지 판단
+     *
+     * @param key 제한 키 (경로 + IP 또는 사용자명)
+     * @param permits period 동안 허용 횟수
+     * @param periodNanos 제한 주기 (나노초)
+     * @return 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    long tryAcquire(String key, int permits, long periodNanos) {
+        long emissionInterval = periodNanos / permits;
+        long burstTolerance = emissionInterval * permits;
+        AtomicLong tat = theoreticalArrivalTimes.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + emissionInterval;
+            long waitNanos = next - now - burstTolerance;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire()로 허용했던 1회를 되돌림
+     *
+     * @param key 제한 키
+     * @param permits tryAcquire()에 넘긴 허용 횟수
+     * @param periodNanos tryAcquire()에 넘긴 제한 주기 (나노초)
+     */
+    void release(String key, int permits, long periodNanos) {
+        AtomicLong tat = theoreticalArrivalTimes.getIfPresent(key);
+        if (tat == null) {
+            return;
+        }
+        long emissionInterval = periodNanos / permits;
+        // 현재 시각보다 과거가 되어도 tryAcquire()에서 현재 시각 기준으로 다시 계산하므로 그대로 둠
+        tat.getAndUpdate(current -> current == Long.MIN_VALUE ? current : current - emissionInterval);
+    }
+}
@@ -0,0 +1,103 @@
+package jh_platform.auth.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 두 세대로 나눈 Bloom 필터 (TokenRevocationList 앞단 확인용)
+ *
+ * Bloom 필터는 항목을 지울 수 없으므로, 현재/이전 두 세대를 두고 rotate()할 때마다
+ * 이전 세대를 비워 현재 세대와 맞바꿉니다.
+ * rotate() 주기를 access token 유효기간 이상으로 잡으면, 항목은 최소 유효기간 동안 유지되고
+ * 두 번 회전한 뒤에는 사라집니다.
+ *
+ * - mightContain()이 false면 확실히 없음, true면 있을 수도 있음 (정확한 확인은 호출하는 쪽에서)
+ * - 비트 설정/조회는 AtomicLongArray로 락 없이 처리
+ */
+class GenerationalBloomFilter {
+
+    private final int bitCount;
+
+    private final int hashCount;
+
+    private volatile AtomicLongArray current;
+
+    private volatile AtomicLongArray previous;
+
+    /**
+     * @param expectedInsertions 한 세대에 들어갈 것으로 예상되는 항목 수
+     * @param falsePositiveRate 목표 오탐률 (0~1)
+     */
+    GenerationalBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.current = new AtomicLongArray((bitCount + 63) / 64);
+        this.previous = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        AtomicLongArray bits = current;
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long old;
+            do {
+                old = bits.get(word);
+                if ((old & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, old, old | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return contains(current, h1, h2) || contains(previous, h1, h2);
+    }
+
+    /**
+     * 이전 세대를 버리고 현재 세대를 이전 세대로 넘깁니다.
+     */
+    synchronized void rotate() {
+        AtomicLongArray emptied = new AtomicLongArray(previous.length());
+        previous = current;
+        current = emptied;
+    }
+
+    private boolean contains(AtomicLongArray bits, int h1, int h2) {
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시 후 비트를 한 번 더 섞음 (상위/하위 32비트를 두 개의 해시로 사용)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,114 @@
+package jh_platform.auth.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서비스 간 API(/api/auth/introspect, /api/auth/revocations) 호출 서비스 인증 필터
+ *
+ * 다른 서비스는 security.introspection.clients에 등록한 ID/비밀값을 HTTP Basic으로 보내야 하며,
+ * 일치하면 ROLE_INTROSPECTION 권한으로 인증합니다. (SecurityConfig에서 이 권한만 허용)
+ *
+ * - 비밀값은 SHA-256 해시끼리 MessageDigest.isEqual로 비교 (길이/내용에 따른 시간 차이 없음)
+ * - 비밀값이 비어 있는 클라이언트는 등록하지 않음 (아무 클라이언트도 없으면 모든 호출 거부)
+ */
+@Component
+public class IntrospectionClientFilter extends OncePerRequestFilter {
+
+    public static final String INTROSPECTION_PATH = "/api/auth/introspect";
+
+    public static final String REVOCATIONS_PATH = "/api/auth/revocations";
+
+    public static final String INTROSPECTION_ROLE = "INTROSPECTION";
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private static final List<SimpleGrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_" + INTROSPECTION_ROLE));
+
+    /**
+     * 클라이언트 ID -> 비밀값 SHA-256
+     */
+    private final Map<String, byte[]> clientSecretHashes = new HashMap<>();
+
+    public IntrospectionClientFilter(SecurityProperties securityProperties) {
+        for (SecurityProperties.Introspection.Client client : securityProperties.getIntrospection().getClients()) {
+            if (client.getId() != null && client.getSecret() != null && !client.getSecret().isEmpty()) {
+                clientSecretHashes.put(client.getId(), sha256(client.getSecret()));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !INTROSPECTION_PATH.equals(path) && !REVOCATIONS_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String clientId = authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (clientId != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(clientId, null, AUTHORITIES));
+        }
+        // 인증 실패 시 인증 정보 없이 진행 (SecurityConfig에서 거부)
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authorization: Basic 헤더 확인
+     *
+     * @return 인증된 클라이언트 ID, 헤더가 없거나 일치하지 않으면 null
+     */
+    private String authenticate(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return null;
+        }
+        String credentials;
+        try {
+            credentials = new String(
+                    Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separator = credentials.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        String clientId = credentials.substring(0, separator);
+        byte[] expected = clientSecretHashes.get(clientId);
+        byte[] actual = sha256(credentials.substring(separator + 1));
+        return expected != null && MessageDigest.isEqual(expected, actual) ? clientId : null;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package jh_platform.auth.config;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.model.TokenClaims;
+import jh_platform.auth.service.RoleResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * JWT 인증 필터
@@ -24,15 +30,34 @@ import java.util.Collections;
  * 
  * 동작 방식:
  * 1. 쿠키에서 accessToken 추출
- * 2. 토큰 유효성 검증
- * 3. 유효하면 SecurityContext에 인증 정보 설정
- * 4. 유효하지 않으면 다음 필터로 진행 (401은 SecurityConfig에서 처리)
+ * 2. 토큰 유효성 검증 (VerifiedTokenCache를 거쳐 반복 요청은 재검증 생략)
+ * 3. 폐기된 토큰(로그아웃)인지 메모리에서 확인 (TokenRevocationList)
+ * 4. 권한 버전(rv)이 캐시된 버전보다 낮으면 무효 처리 (RoleResolver 캐시만 확인, DB 조회 없음 / 클라이언트가 /refresh로 재발급)
+ * 5. 유효하면 토큰의 roles 클레임으로 SecurityContext에 인증 정보 설정 (DB 조회 없음)
+ * 6. 유효하지 않으면 다음 필터로 진행 (401은 SecurityConfig에서 처리)
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    /**
+     * 검증된 access token 클레임을 담는 요청 속성 이름 (세션 ID 등 조회용)
+     */
+    public static final String TOKEN_CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".TOKEN_CLAIMS";
+
+    /**
+     * roles 클레임이 없는 토큰(권한 미부여 사용자, 이전 버전 토큰)에 부여할 기본 권한
+     */
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final RoleResolver roleResolver;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -44,35 +69,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 쿠키에서 토큰 추출
         String token = extractTokenFromCookie(request);
         
-        // 토큰이 있고 유효한 경우
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 토큰에서 사용자명 추출
-            String username = jwtTokenProvider.getUsername(token);
-            
-            // SecurityContext에 인증 정보 설정
-            // ROLE_USER 권한 부여 (필요시 DB에서 조회하여 권한 설정 가능)
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            username,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                    );
-            
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰이 있으면 검증 후 클레임 획득 (이미 검증한 토큰은 캐시에서 바로 반환)
+        if (token != null) {
+            Timer.Sample sample = authMetrics.start();
+            String outcome = "valid";
+            try {
+                TokenClaims claims = verifiedTokenCache.verify(token);
+                String username = claims.getSubject();
+
+                if (tokenRevocationList.isRevoked(claims)) {
+                    throw new InvalidTokenException(InvalidTokenException.Reason.REVOKED);
+                }
+
+                if (roleResolver.isRoleVersionStale(claims)) {
+                    throw new InvalidTokenException(InvalidTokenException.Reason.ROLES_CHANGED);
+                }
+
+                // SecurityContext에 인증 정보 설정 (권한은 토큰의 roles 클레임 기준)
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                username,
+                                null,
+                                toAuthorities(claims.getRoles())
+                        );
+
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(TOKEN_CLAIMS_ATTRIBUTE, claims);
+            } catch (InvalidTokenException e) {
+                // 유효하지 않은 토큰은 인증 정보 없이 다음 필터로 진행 (401은 SecurityConfig에서 처리)
+                outcome = AuthMetrics.outcome(e);
+            } finally {
+                authMetrics.recordTokenVerification(sample, outcome);
+            }
         }
         
         // 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * roles 클레임(ROLE_ 접두어 제외)을 권한 목록으로 변환
+     */
+    private static List<GrantedAuthority> toAuthorities(List<String> roles) {
+        if (roles.isEmpty()) {
+            return DEFAULT_AUTHORITIES;
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+
     /**
      * HttpServletRequest에서 accessToken 쿠키를 추출
      * 
      * @param request HttpServletRequest
      * @return JWT 토큰 문자열, 없으면 null
      */
-    private String extractTokenFromCookie(HttpServletRequest request) {
+    static String extractTokenFromCookie(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
         if (cookies != null) {
             for (Cookie cookie : cookies) {
@@ -3,12 +3,29 @@ package jh_platform.auth.config;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 
+import jakarta.annotation.PostConstruct;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.model.TokenClaims;
+import jh_platform.auth.model.UserRoles;
+import jh_platform.jwt.JwtVerificationException;
+import jh_platform.jwt.JwtVerifier;
+import jh_platform.jwt.VerifiedClaims;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static jh_platform.jwt.JwtVerifier.ACCESS_TOKEN_USE;
+import static jh_platform.jwt.JwtVerifier.REFRESH_TOKEN_USE;
+import static jh_platform.jwt.JwtVerifier.ROLES_CLAIM;
+import static jh_platform.jwt.JwtVerifier.ROLE_VERSION_CLAIM;
+import static jh_platform.jwt.JwtVerifier.SESSION_ID_CLAIM;
+import static jh_platform.jwt.JwtVerifier.TOKEN_USE_CLAIM;
 
 /**
  * JWT (JSON Web Token) 토큰을 생성하고 검증하는 클래스
@@ -20,10 +37,27 @@ import java.util.Date;
  * - Header: 토큰 타입과 서명 알고리즘 정보
  * - Payload: 사용자 정보 및 클레임(claims) 데이터
  * - Signature: Header와 Payload를 비밀키로 서명한 값
+ * 
+ * 서명 알고리즘:
+ * - refresh token: 항상 HS256 (auth 서비스만 검증하므로 비밀키로 충분)
+ * - access token: spring.jwt.algorithm에 따라 HS256 또는 RS256
+ *   RS256이면 JwtKeyRing의 활성 키로 서명하고 헤더에 kid를 넣습니다.
+ * 
+ * 토큰 종류:
+ * HS256 모드에서는 두 토큰이 같은 키로 서명되므로, token_use 클레임(access/refresh)으로 구분합니다.
+ * verify()는 access token만, verifyRefreshToken()은 refresh token만 통과시킵니다.
+ * 
+ * 검증 규칙(토큰 종류, jti 필수, kid별 키 선택)은 게이트웨이와 함께 쓰는 common/jwt-verifier의 JwtVerifier에 있고,
+ * 이 클래스는 토큰 생성과 auth 서비스 예외(InvalidTokenException) 변환만 담당합니다.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtKeyRing jwtKeyRing;
+
     /**
      * JWT 토큰 서명에 사용할 비밀키
      * application.yml에서 주입받습니다.
@@ -47,47 +81,96 @@ public class JwtTokenProvider {
 
 
     /**
-     * 문자열 비밀키를 JWT 서명에 사용할 수 있는 Key 객체로 변환
+     * 서명/검증에 사용할 Key 객체 (기동 시 한 번만 생성)
+     */
+    private Key signingKey;
+
+    /**
+     * 미리 생성해 둔 JWT 검증기 (common/jwt-verifier, 게이트웨이와 같은 검증 규칙)
+     *
+     * JwtVerifier는 불변 객체라 여러 스레드에서 공유해도 안전하므로,
+     * 요청마다 파서와 키를 다시 만들지 않고 이 인스턴스를 재사용합니다.
+     */
+    private JwtVerifier jwtVerifier;
+
+    /**
+     * 문자열 비밀키를 JWT 서명에 사용할 수 있는 Key 객체로 변환하고 파서를 준비합니다.
      * 
      * HS256 알고리즘은 HMAC-SHA256을 사용하며,
      * 최소 256비트(32바이트) 키가 필요합니다.
      * 
      * Keys.hmacShaKeyFor()는 자동으로 키 길이를 검증하고,
      * 필요한 경우 키를 패딩하거나 해시하여 안전한 키를 생성합니다.
-     * 
-     * @return 서명에 사용할 Key 객체
      */
-    private Key getSigningKey() {
+    @PostConstruct
+    void init() {
         // 문자열 비밀키를 UTF-8 바이트 배열로 변환 후, HMAC-SHA256 키로 변환
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+
+        // kid가 있으면 키 링의 RSA 공개키, 없으면 HS256 비밀키로 검증 (refresh token은 항상 HS256 비밀키)
+        this.jwtVerifier = new JwtVerifier(signingKey, jwtKeyRing.isEnabled() ? jwtKeyRing::findVerificationKey : null);
     }
 
-    //  accessToken 생성
-    public String createAccessToken(String username) {
-        return createToken(username, accessValidityInMs);
+    //  accessToken 생성 (sessionId: 발급 근거가 된 세션, 로그아웃 시 해당 세션 식별용)
+    //  userRoles: 토큰에 담을 권한 목록/버전 (필터는 DB 조회 없이 이 클레임으로 권한 설정)
+    //  jti: 로그아웃 시 이 토큰만 폐기하기 위한 고유 ID (TokenRevocationList)
+    public String createAccessToken(String username, String sessionId, UserRoles userRoles) {
+        JwtBuilder builder = buildToken(username, sessionId, ACCESS_TOKEN_USE, accessValidityInMs)
+                .claim(ROLES_CLAIM, userRoles.getRoles().stream()
+                        .map(role -> role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role)
+                        .collect(Collectors.toList()))
+                .claim(ROLE_VERSION_CLAIM, userRoles.getRoleVersion());
+
+        if (jwtKeyRing.isEnabled()) {
+            JwtKeyRing.SigningKey key = jwtKeyRing.getActiveKey();
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, key.getKid())   // 검증 시 공개키를 찾기 위한 kid
+                    .signWith(key.getPrivateKey(), SignatureAlgorithm.RS256)
+                    .compact();
+        }
+        return builder
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
     }
 
-    //  refreshToken 생성
-    public String createRefreshToken(String username) {
-        return createToken(username, refreshValidityInMs);
+    //  refreshToken 생성 (sessionId로 TB_USER_REFRESH_TOKEN 행을 기본키 조회)
+    public String createRefreshToken(String username, String sessionId) {
+        return createToken(username, sessionId, refreshValidityInMs);
     }
 
     /**
-     * 사용자명을 기반으로 JWT 토큰을 생성합니다.
+     * 사용자명을 기반으로 refresh token 용도의 JWT 토큰을 생성합니다.
      * 
      * 생성 과정:
      * 1. Claims 객체 생성 및 사용자명(subject) 설정
      * 2. 현재 시간과 만료 시간 설정
-     * 3. 토큰 빌더를 사용하여 토큰 구성
+     * 3. 토큰 빌더를 사용하여 토큰 구성 (token_use=refresh, jti 포함)
      * 4. 비밀키로 서명하여 최종 토큰 생성
      * 
      * @param username 토큰에 포함할 사용자명 (subject)
+     * @param sessionId 토큰에 포함할 세션 ID (sid), 없으면 null
      * @return 생성된 JWT 토큰 문자열 (Base64 URL-safe 인코딩됨)
      */
-    public String createToken(String username, Long validityInMs) {
+    public String createToken(String username, String sessionId, Long validityInMs) {
+        return buildToken(username, sessionId, REFRESH_TOKEN_USE, validityInMs)
+                .signWith(signingKey, SignatureAlgorithm.HS256)  // 비밀키로 서명 (Header와 Payload를 암호화)
+                .compact();                                  // 최종 토큰 문자열로 변환
+    }
+
+    /**
+     * 서명 전 단계까지 JWT 빌더를 구성합니다.
+     * 
+     * @param tokenUse 토큰 종류 (access 또는 refresh)
+     */
+    private JwtBuilder buildToken(String username, String sessionId, String tokenUse, Long validityInMs) {
         // Claims: JWT의 Payload 부분에 포함될 데이터들
         // setSubject: 사용자를 식별하는 고유한 값 (일반적으로 username 사용)
         Claims claims = Jwts.claims().setSubject(username);
+        claims.setId(UUID.randomUUID().toString());
+        claims.put(TOKEN_USE_CLAIM, tokenUse);
+        if (sessionId != null) {
+            claims.put(SESSION_ID_CLAIM, sessionId);
+        }
         
         // 현재 시간
         Date now = new Date();
@@ -95,43 +178,83 @@ public class JwtTokenProvider {
         // 만료 시간 = 현재 시간 + 유효기간
         Date validity = new Date(now.getTime() + validityInMs);
 
-        // JWT 빌더를 사용하여 토큰 구성 및 생성
+        // JWT 빌더를 사용하여 토큰 구성
         return Jwts.builder()
                 .setClaims(claims)                           // Payload에 사용자 정보 설정
                 .setIssuedAt(now)                            // 토큰 발급 시간 (iat)
-                .setExpiration(validity)                     // 토큰 만료 시간 (exp)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)  // 비밀키로 서명 (Header와 Payload를 암호화)
-                .compact();                                  // 최종 토큰 문자열로 변환
+                .setExpiration(validity);                    // 토큰 만료 시간 (exp)
     }
 
     /**
-     * JWT 토큰의 유효성을 검증합니다.
+     * JWT 토큰을 한 번 파싱하여 서명과 만료를 검증하고, 검증된 클레임을 반환합니다.
      * 
      * 검증 과정:
-     * 1. 토큰 파싱 시도 (형식 검증)
+     * 1. 토큰 파싱 (형식 검증)
      * 2. 서명 검증 (비밀키로 서명된 토큰인지 확인)
      * 3. 만료 시간 검증 (exp 클레임 확인)
      * 
-     * 만약 토큰이 유효하지 않다면 (만료됨, 서명이 다름, 형식 오류 등)
-     * 예외가 발생하고 false를 반환합니다.
+     * 같은 토큰에 대해 validateToken()과 getUsername()을 연달아 호출하면
+     * 파싱과 서명 검증이 두 번 일어나므로, 요청 처리 경로에서는 이 메서드를 사용합니다.
+     * 
+     * refresh token은 서명이 맞더라도 WRONG_TYPE으로, jti가 없는 access token은 MALFORMED로 거부합니다.
+     * 
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 검증된 클레임 (subject, iat, exp, jti, roles)
+     * @throws InvalidTokenException 토큰이 만료되었거나, 서명이 다르거나, 형식이 잘못되었거나, access token이 아닌 경우
+     */
+    public TokenClaims verify(String token) {
+        try {
+            return toTokenClaims(jwtVerifier.verifyAccessToken(token));
+        } catch (JwtVerificationException e) {
+            throw new InvalidTokenException(InvalidTokenException.Reason.valueOf(e.getReason().name()));
+        }
+    }
+
+    /**
+     * refresh token의 서명과 만료를 검증하고 클레임을 반환합니다. (재발급/로그아웃용)
+     * 
+     * HS256 비밀키로만 검증하며, access token은 WRONG_TYPE으로 거부합니다.
+     * 
+     * @param token 검증할 refresh token 문자열
+     * @return 검증된 클레임 (subject, iat, exp, jti, sid)
+     * @throws InvalidTokenException 토큰이 만료되었거나, 서명이 다르거나, 형식이 잘못되었거나, refresh token이 아닌 경우
+     */
+    public TokenClaims verifyRefreshToken(String token) {
+        try {
+            return toTokenClaims(jwtVerifier.verifyRefreshToken(token));
+        } catch (JwtVerificationException e) {
+            throw new InvalidTokenException(InvalidTokenException.Reason.valueOf(e.getReason().name()));
+        }
+    }
+
+    /**
+     * 공용 검증 결과를 auth 서비스의 TokenClaims로 변환
+     */
+    private static TokenClaims toTokenClaims(VerifiedClaims claims) {
+        return new TokenClaims(
+                claims.subject(),
+                claims.issuedAt(),
+                claims.expiresAt(),
+                claims.tokenId(),
+                claims.sessionId(),
+                claims.roles(),
+                claims.roleVersion()
+        );
+    }
+
+    /**
+     * JWT 토큰의 유효성을 검증합니다.
+     * 
+     * 검증 결과만 필요할 때 사용하며, 클레임이 필요하면 verify()를 사용합니다.
      * 
      * @param token 검증할 JWT 토큰 문자열
      * @return 토큰이 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
         try {
-            // 토큰 파싱 및 검증
-            // parseClaimsJws(): 서명이 포함된 JWT를 파싱하며, 서명도 자동으로 검증
-            Jwts.parser()
-                .setSigningKey(getSigningKey())  // 서명 검증에 사용할 키 설정
-                .parseClaimsJws(token);          // 토큰 파싱 및 서명 검증 수행
-            
-            // 위 과정에서 예외가 발생하지 않으면 토큰이 유효함
+            verify(token);
             return true;
-            
-        } catch (JwtException | IllegalArgumentException e) {
-            // JwtException: JWT 관련 예외 (만료, 서명 불일치 등)
-            // IllegalArgumentException: 잘못된 토큰 형식
+        } catch (InvalidTokenException e) {
             return false;
         }
     }
@@ -139,19 +262,11 @@ public class JwtTokenProvider {
     /**
      * JWT 토큰에서 사용자명을 추출합니다.
      * 
-     * 토큰을 파싱하여 Payload의 subject(사용자명)를 가져옵니다.
-     * 이 메서드를 호출하기 전에 validateToken()으로 검증하는 것이 좋습니다.
-     * 
      * @param token 사용자명을 추출할 JWT 토큰
      * @return 토큰에 저장된 사용자명 (subject)
-     * @throws JwtException 토큰이 유효하지 않을 경우
+     * @throws InvalidTokenException 토큰이 유효하지 않을 경우
      */
     public String getUsername(String token) {
-        // 토큰 파싱 후 Payload(body)에서 subject 클레임 추출
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())      // 서명 검증 키 설정
-                .parseClaimsJws(token)               // 토큰 파싱
-                .getBody()                           // Payload(Claims) 가져오기
-                .getSubject();                       // subject 클레임 값 반환 (username)
+        return verify(token).getSubject();
     }
 }
@@ -0,0 +1,81 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인메모리(로컬) 캐시 설정 Properties
+ * 
+ * application.yml의 local-cache 설정을 읽어옵니다.
+ * 
+ * 캐시는 인스턴스마다 따로 가지므로, 다른 인스턴스에서 변경된 데이터는 TTL이 지나야 반영됩니다.
+ * 
+ * 사용 예시:
+ * local-cache:
+ *   refresh-token:
+ *     maximum-size: 10000
+ *     ttl: 60s
+ *   role:
+ *     maximum-size: 10000
+ *     ttl: 5m
+ *   user-profile:
+ *     maximum-size: 10000
+ *     ttl: 5m
+ */
+@Component
+@ConfigurationProperties(prefix = "local-cache")
+@Getter
+@Setter
+public class LocalCacheProperties {
+
+    /**
+     * refresh token 레코드 캐시
+     */
+    private Spec refreshToken = new Spec(10_000, Duration.ofSeconds(60));
+
+    /**
+     * 사용자 권한 캐시 (access token 발급 시 조회, 요청마다 rv 비교)
+     * ttl마다 백그라운드에서 다시 읽으므로, 다른 인스턴스의 권한 변경은 최대 ttl 뒤에 반영
+     */
+    private Spec role = new Spec(10_000, Duration.ofMinutes(5));
+
+    /**
+     * 사용자 정보 캐시 (GET /api/auth/user)
+     */
+    private Spec userProfile = new Spec(10_000, Duration.ofMinutes(5));
+
+    /**
+     * 캐시 크기/유효시간 설정
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 항목 수
+         */
+        private long maximumSize;
+
+        /**
+         * 저장 후 유효시간
+         */
+        private Duration ttl;
+
+        public Spec() {
+        }
+
+        public Spec(long maximumSize, Duration ttl) {
+            this.maximumSize = maximumSize;
+            this.ttl = ttl;
+        }
+    }
+}
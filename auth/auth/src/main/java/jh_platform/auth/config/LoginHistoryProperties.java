@@ -0,0 +1,80 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 이력 비동기 기록 설정 Properties
+ * 
+ * application.yml의 login-history 설정을 읽어옵니다.
+ * 
+ * 사용 예시:
+ * login-history:
+ *   enabled: true
+ *   domain-se: PORTAL
+ *   queue-capacity: 10000
+ *   flush-size: 200
+ *   flush-interval: 1s
+ *   overflow-policy: DROP
+ */
+@Component
+@ConfigurationProperties(prefix = "login-history")
+@Getter
+@Setter
+public class LoginHistoryProperties {
+
+    /**
+     * 대기열이 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        /**
+         * 이력을 버리고 dropped 카운터만 증가 (로그인 지연 없음)
+         */
+        DROP,
+        /**
+         * block-timeout 동안 자리가 날 때까지 대기, 그래도 없으면 버림
+         */
+        BLOCK
+    }
+
+    /**
+     * 로그인 이력 기록 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * DOMAIN_SE 컬럼에 기록할 로그인 도메인 구분
+     */
+    private String domainSe = "PORTAL";
+
+    /**
+     * 메모리 대기열 최대 건수
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * INSERT 1회에 묶을 최대 건수
+     */
+    private int flushSize = 200;
+
+    /**
+     * flush-size가 차지 않아도 저장하는 주기
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * BLOCK 정책에서 자리가 날 때까지 기다리는 최대 시간
+     */
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    /**
+     * 종료 시 남은 이력을 저장하기 위해 기다리는 최대 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,54 @@
+package jh_platform.auth.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * MapperFactoryBean 빈 정의에 매퍼 인터페이스 제네릭 타입을 채워 넣는 후처리기
+ *
+ * 매퍼 스캐너는 인터페이스 이름을 생성자 인자(문자열)로만 넘기므로,
+ * Spring AOT가 빌드 시점에 "UserMapper 타입 빈"을 찾지 못해 native image에서 주입이 실패합니다.
+ * MapperFactoryBean&lt;UserMapper&gt;처럼 타입을 명시해 두면 AOT가 생성하는 빈 정의에도 반영됩니다.
+ * (JVM 실행에서는 동작 변화 없음)
+ */
+@Component
+public class MapperFactoryBeanTypePostProcessor implements MergedBeanDefinitionPostProcessor {
+
+    @Override
+    public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+        if (!MapperFactoryBean.class.isAssignableFrom(beanType)
+                || beanDefinition.getResolvableType().hasResolvableGenerics()) {
+            return;
+        }
+
+        Class<?> mapperInterface = mapperInterface(beanDefinition, beanType.getClassLoader());
+        if (mapperInterface != null) {
+            beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanType, mapperInterface));
+        }
+    }
+
+    private static Class<?> mapperInterface(RootBeanDefinition beanDefinition, ClassLoader classLoader) {
+        ConstructorArgumentValues.ValueHolder holder = beanDefinition.getConstructorArgumentValues()
+                .getGenericArgumentValue(null);
+        if (holder == null) {
+            holder = beanDefinition.getConstructorArgumentValues().getIndexedArgumentValue(0, null);
+        }
+        if (holder == null) {
+            return null;
+        }
+
+        Object value = holder.getValue();
+        if (value instanceof Class<?> type) {
+            return type;
+        }
+        if (value instanceof String className) {
+            return ClassUtils.resolveClassName(className, classLoader);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,185 @@
+package jh_platform.auth.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jh_platform.auth.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 속도 제한 필터 (JwtAuthenticationFilter 앞에서 실행)
+ *
+ * /api/auth/login 한 번에 BCrypt 검증 한 번이 필요하므로, 적은 수의 요청으로도 CPU를 모두 점유할 수 있습니다.
+ * security.rate-limit.rules에 등록한 경로는 클라이언트 IP별, 요청 본문의 username + IP별로 횟수를 제한하고,
+ * 초과한 요청은 해시 계산 없이 바로 429 + Retry-After로 응답합니다.
+ *
+ * - 제한 상태는 키마다 AtomicLong 하나 (GcraRateLimiter, 락 없음)
+ * - 사용자명은 JSON 본문에서 꺼내며, 본문은 다시 읽을 수 있도록 감싸서 다음 필터로 넘김
+ *   본문이 max-body-bytes를 넘으면 끝까지 읽지 않고 413으로 응답
+ * - 사용자명 제한은 실패한 요청(2xx가 아닌 응답)만 셈
+ *   다른 IP의 공격자가 피해자 계정을 429에 묶어 둘 수 없도록 IP와 함께 키로 사용하며,
+ *   여러 IP에 나눠 한 계정을 노리는 경우는 로그인 실패 횟수 잠금(LoginActivityTracker)이 막음
+ * - 제한 상태는 인스턴스별
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final SecurityProperties.RateLimit properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final GcraRateLimiter rateLimiter;
+
+    /**
+     * 경로 -> 제한 규칙
+     */
+    private final Map<String, SecurityProperties.RateLimit.Rule> rules = new HashMap<>();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public RateLimitFilter(SecurityProperties securityProperties, ObjectMapper objectMapper) {
+        this.properties = securityProperties.getRateLimit();
+        this.objectMapper = objectMapper;
+        this.rateLimiter = new GcraRateLimiter(
+                properties.getMaximumKeys(), Duration.ofMillis(properties.getIdleTimeoutMillis()));
+        for (SecurityProperties.RateLimit.Rule rule : properties.getRules()) {
+            rules.put(rule.getPath(), rule);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !rules.containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SecurityProperties.RateLimit.Rule rule = rules.get(request.getServletPath());
+        long periodNanos = TimeUnit.MILLISECONDS.toNanos(rule.getPeriodMillis());
+
+        // 1. IP별 제한 (본문을 읽기 전에 확인)
+        if (rule.getIpPermits() > 0) {
+            long waitNanos = rateLimiter.tryAcquire(
+                    "ip:" + rule.getPath() + ":" + request.getRemoteAddr(), rule.getIpPermits(), periodNanos);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        if (rule.getUsernamePermits() <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 사용자명 + IP별 제한 (한 IP에서 한 계정의 비밀번호를 반복 시도하는 경우)
+        CachedBodyHttpServletRequest cachedRequest = readBody(request);
+        if (cachedRequest == null) {
+            rejectTooLarge(response);
+            return;
+        }
+        String username = extractUsername(cachedRequest.getBody());
+        if (username == null) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        String key = "user:" + rule.getPath() + ":" + username.toLowerCase(Locale.ROOT) + "@" + request.getRemoteAddr();
+        long waitNanos = rateLimiter.tryAcquire(key, rule.getUsernamePermits(), periodNanos);
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+
+        // 성공한 요청은 횟수에서 제외 (예외로 끝난 요청은 실패로 셈)
+        if (HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+            rateLimiter.release(key, rule.getUsernamePermits(), periodNanos);
+        }
+    }
+
+    /**
+     * 요청 본문을 max-body-bytes까지 읽어서 다시 읽을 수 있는 요청으로 감쌈
+     *
+     * Content-Length가 없는 본문도 max-body-bytes + 1바이트까지만 읽으므로, 큰 본문을 메모리에 쌓지 않습니다.
+     *
+     * @return 본문이 max-body-bytes보다 크면 null (413으로 응답)
+     */
+    private CachedBodyHttpServletRequest readBody(HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > properties.getMaxBodyBytes()) {
+            return null;
+        }
+        InputStream input = request.getInputStream();
+        byte[] body = input.readNBytes(properties.getMaxBodyBytes() + 1);
+        if (body.length > properties.getMaxBodyBytes()) {
+            return null;
+        }
+        return new CachedBodyHttpServletRequest(request, body);
+    }
+
+    private String extractUsername(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText() : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러에서 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        rejectedCount.increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(waitNanos)));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void rejectTooLarge(HttpServletResponse response) throws IOException {
+        writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(status.value(), message));
+    }
+
+    /**
+     * 남은 대기 시간을 Retry-After 초로 변환 (올림, 최소 1초)
+     */
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    /**
+     * 속도 제한으로 거부한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
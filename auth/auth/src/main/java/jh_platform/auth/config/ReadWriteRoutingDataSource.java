@@ -0,0 +1,136 @@
+package jh_platform.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * primary/replica 커넥션을 골라 주는 DataSource
+ *
+ * 어느 쪽을 쓸지는 ReadWriteRoutingInterceptor가 MyBatis 실행 직전에 스레드에 지정하며,
+ * 지정이 없으면(트랜잭션 시작, 매퍼 외 JDBC 사용 등) 항상 primary를 사용합니다.
+ *
+ * 복제본 장애 처리:
+ * - 주기적으로 복제본 커넥션을 검사해 비정상이면 모든 읽기를 primary로 보냄
+ * - 검사 사이에 복제본 커넥션 획득이 실패해도 즉시 비정상으로 표시하고 primary 커넥션을 반환
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Route> CURRENT_ROUTE = new ThreadLocal<>();
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final int healthCheckTimeoutSeconds;
+
+    private volatile boolean replicaHealthy = true;
+
+    /**
+     * 복제본 대신 primary로 보낸 읽기 커넥션 수
+     */
+    private final LongAdder replicaFallbackCount = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, int healthCheckTimeoutSeconds) {
+        this.primary = primary;
+        this.replica = replica;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 현재 스레드에서 사용할 경로 지정 (null이면 해제)
+     *
+     * @return 이전 경로 (중첩 호출 복원용)
+     */
+    static Route route(Route route) {
+        Route previous = CURRENT_ROUTE.get();
+        if (route == null) {
+            CURRENT_ROUTE.remove();
+        } else {
+            CURRENT_ROUTE.set(route);
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = CURRENT_ROUTE.get();
+        if (route != Route.REPLICA) {
+            return Route.PRIMARY;
+        }
+        if (!replicaHealthy) {
+            replicaFallbackCount.increment();
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() != Route.REPLICA) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            replicaFallbackCount.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 계정을 지정한 커넥션은 분리 대상이 아님
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 복제본 상태 확인 (비정상 -> 정상 복귀도 여기서만 판단)
+     */
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval-millis:5000}")
+    public void checkReplicaHealth() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            healthy = connection.isValid(healthCheckTimeoutSeconds);
+        } catch (SQLException e) {
+            healthy = false;
+        }
+
+        if (healthy && !replicaHealthy) {
+            log.info("복제본 DataSource 정상 복귀, 읽기 분리 재개");
+        } else if (!healthy && replicaHealthy) {
+            log.warn("복제본 DataSource 상태 확인 실패, 읽기를 primary로 전환");
+        }
+        this.replicaHealthy = healthy;
+    }
+
+    private void markReplicaDown(SQLException e) {
+        if (replicaHealthy) {
+            log.warn("복제본 커넥션 획득 실패, 다음 상태 확인까지 읽기를 primary로 전환", e);
+        }
+        this.replicaHealthy = false;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    public long getReplicaFallbackCount() {
+        return replicaFallbackCount.sum();
+    }
+}
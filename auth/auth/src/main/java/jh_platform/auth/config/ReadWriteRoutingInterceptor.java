@@ -0,0 +1,107 @@
+package jh_platform.auth.config;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+
+/**
+ * MyBatis 실행 직전에 primary/replica 경로를 지정하는 인터셉터
+ *
+ * 커넥션은 statement를 준비할 때 가져오므로, Executor.query/update 시점에 경로를 정하면
+ * ReadWriteRoutingDataSource가 그 경로의 커넥션을 반환합니다.
+ *
+ * 경로 규칙:
+ * - INSERT/UPDATE/DELETE: primary, 같은 요청의 이후 읽기도 primary로 고정 (read-your-writes)
+ * - SELECT: replica (단, 트랜잭션 안이거나 요청이 고정됐거나 primary-statements에 해당하면 primary)
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class ReadWriteRoutingInterceptor implements Interceptor {
+
+    /**
+     * 쓰기가 있었던 요청임을 표시하는 요청 속성 이름
+     */
+    static final String PINNED_ATTRIBUTE = ReadWriteRoutingInterceptor.class.getName() + ".PINNED";
+
+    private final List<String> primaryStatements;
+
+    public ReadWriteRoutingInterceptor(List<String> primaryStatements) {
+        this.primaryStatements = List.copyOf(primaryStatements);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+
+        ReadWriteRoutingDataSource.Route route;
+        if (statement.getSqlCommandType() != SqlCommandType.SELECT) {
+            pinCurrentRequest();
+            route = ReadWriteRoutingDataSource.Route.PRIMARY;
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()
+                || isCurrentRequestPinned()
+                || isPrimaryStatement(statement.getId())) {
+            route = ReadWriteRoutingDataSource.Route.PRIMARY;
+        } else {
+            route = ReadWriteRoutingDataSource.Route.REPLICA;
+        }
+
+        ReadWriteRoutingDataSource.Route previous = ReadWriteRoutingDataSource.route(route);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadWriteRoutingDataSource.route(previous);
+        }
+    }
+
+    /**
+     * primary-statements 항목과 비교
+     *
+     * 항목은 네임스페이스 또는 statement ID 단위로만 일치시키므로,
+     * UserMapper.findByUsername이 UserMapper.findByUsernameForLogin까지 primary로 보내지는 않습니다.
+     */
+    private boolean isPrimaryStatement(String statementId) {
+        for (String entry : primaryStatements) {
+            if (statementId.startsWith(entry)
+                    && (statementId.length() == entry.length()
+                        || entry.endsWith(".")
+                        || statementId.charAt(entry.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 처리 스레드가 아니면(스케줄러, 백그라운드 기록기) 고정하지 않음
+     */
+    private static void pinCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean isCurrentRequestPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,58 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 만료 refresh token 정리 작업 설정 Properties
+ * 
+ * application.yml의 refresh-token-reaper 설정을 읽어옵니다.
+ * 
+ * 사용 예시:
+ * refresh-token-reaper:
+ *   enabled: true
+ *   interval: 10m
+ *   jitter: 1m
+ *   batch-size: 500
+ *   max-batches-per-run: 20
+ */
+@Component
+@ConfigurationProperties(prefix = "refresh-token-reaper")
+@Getter
+@Setter
+public class RefreshTokenReaperProperties {
+
+    /**
+     * 정리 작업 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실행 간격
+     */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * 실행 간격에 더할 임의 지연의 최대값 (여러 인스턴스가 동시에 실행되지 않도록)
+     */
+    private Duration jitter = Duration.ofMinutes(1);
+
+    /**
+     * DELETE 1회당 최대 삭제 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 1회 실행에서 수행할 최대 DELETE 횟수 (남은 행은 다음 실행에서 정리)
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * DELETE 사이의 대기 시간 (다른 트랜잭션이 락을 얻을 수 있도록)
+     */
+    private Duration pauseBetweenBatches = Duration.ofMillis(50);
+}
@@ -0,0 +1,139 @@
+package jh_platform.auth.config;
+
+import jh_platform.auth.dto.RevocationDelta;
+import jh_platform.auth.dto.RevocationEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 폐기/권한 변경 기록 (게이트웨이가 GET /api/auth/revocations로 변경분을 가져감)
+ *
+ * 게이트웨이가 요청마다 auth 서비스에 토큰을 묻지 않고 로컬에서 거부할 수 있도록,
+ * 로그아웃(jti, 사용자 단위)과 권한 버전 변경을 순번과 함께 쌓아 둡니다.
+ * - 조회하는 쪽은 마지막으로 받은 순번(since) 이후의 항목만 가져감
+ * - 각 항목은 거부할 토큰이 모두 만료되는 시각(retainUntil)이 지나면 제거
+ *   (TOKEN: 토큰 exp, USER/ROLE_VERSION: 기록 시각 + access token 유효기간)
+ * - 인스턴스 메모리이므로 재시작하면 epoch가 바뀌고, 조회하는 쪽은 남아 있는 항목을 처음부터 다시 받음
+ *
+ * 기록과 조회는 로그아웃/권한 변경, 게이트웨이 주기 조회 때만 일어나므로 하나의 락으로 순번 순서를 보장합니다.
+ * (순번을 받은 항목이 아직 들어가지 않은 상태에서 더 큰 순번이 조회되어 건너뛰는 일이 없음)
+ */
+@Component
+public class RevocationFeed {
+
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final Duration accessValidity;
+
+    private final int maxEvents;
+
+    /**
+     * 순번 -> 항목
+     */
+    private final NavigableMap<Long, RevocationEvent> events = new TreeMap<>();
+
+    private long sequence;
+
+    public RevocationFeed(SecurityProperties securityProperties,
+                          @Value("${spring.jwt.access-validation-millis}") long accessValidityInMs) {
+        this.accessValidity = Duration.ofMillis(accessValidityInMs);
+        this.maxEvents = securityProperties.getRevocation().getFeedMaxEvents();
+    }
+
+    /**
+     * 토큰 하나가 폐기됨
+     *
+     * @param tokenId   jti
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void tokenRevoked(String tokenId, Instant expiresAt) {
+        append(RevocationEvent.builder()
+                .type(RevocationEvent.Type.TOKEN)
+                .tokenId(tokenId)
+                .retainUntil(expiresAt.getEpochSecond()));
+    }
+
+    /**
+     * 사용자의 토큰이 기준 시각까지 모두 폐기됨 (전체 기기 로그아웃)
+     *
+     * @param username      사용자명
+     * @param revokedBefore 이 시각(같은 초 포함)까지 발급된 토큰 폐기
+     */
+    public void userRevoked(String username, Instant revokedBefore) {
+        append(RevocationEvent.builder()
+                .type(RevocationEvent.Type.USER)
+                .subject(username)
+                .revokedBefore(revokedBefore.getEpochSecond())
+                .retainUntil(Instant.now().plus(accessValidity).getEpochSecond()));
+    }
+
+    /**
+     * 사용자의 권한 버전이 바뀜 (커밋 후 호출)
+     *
+     * @param username    사용자명
+     * @param roleVersion 변경 후 권한 버전
+     */
+    public void roleVersionChanged(String username, int roleVersion) {
+        append(RevocationEvent.builder()
+                .type(RevocationEvent.Type.ROLE_VERSION)
+                .subject(username)
+                .roleVersion(roleVersion)
+                .retainUntil(Instant.now().plus(accessValidity).getEpochSecond()));
+    }
+
+    /**
+     * since 이후의 변경분 (최대 feed-max-events개)
+     *
+     * @param epoch 이전 조회에서 받은 epoch, 처음이면 null
+     * @param since 이전 조회에서 받은 sequence, 처음이면 0
+     * @return 변경분, epoch가 다르면 남아 있는 항목 전체부터
+     */
+    public synchronized RevocationDelta since(String epoch, long since) {
+        long from = this.epoch.equals(epoch) ? since : 0;
+        List<RevocationEvent> changed = new ArrayList<>();
+        long last = from;
+        for (RevocationEvent event : events.tailMap(from, false).values()) {
+            if (changed.size() == maxEvents) {
+                break;
+            }
+            changed.add(event);
+            last = event.getSequence();
+        }
+        return RevocationDelta.builder()
+                .epoch(this.epoch)
+                .sequence(Math.min(last, sequence))
+                .more(changed.size() == maxEvents && last < sequence)
+                .events(changed)
+                .build();
+    }
+
+    /**
+     * 거부할 토큰이 모두 만료된 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.feed-prune-interval-millis:60000}")
+    public synchronized void prune() {
+        long now = Instant.now().getEpochSecond();
+        events.values().removeIf(event -> event.getRetainUntil() < now);
+    }
+
+    /**
+     * 보관 중인 항목 수
+     */
+    public synchronized int size() {
+        return events.size();
+    }
+
+    private synchronized void append(RevocationEvent.RevocationEventBuilder builder) {
+        sequence++;
+        events.put(sequence, builder.sequence(sequence).build());
+    }
+}
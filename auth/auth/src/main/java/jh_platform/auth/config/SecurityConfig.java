@@ -1,27 +1,71 @@
 package jh_platform.auth.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IntrospectionClientFilter introspectionClientFilter;
     private final SecurityProperties securityProperties;
 
+    /**
+     * actuator 전용 포트 (설정하지 않으면 -1, 서비스 포트에서 permit-all-paths로 관리)
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    /**
+     * 비밀번호 암호화기
+     * 
+     * 저장 형식: {알고리즘ID}해시 (예: {bcrypt}$2a$11$...)
+     * - 새 해시는 security.password.encoding-id 알고리즘으로 생성
+     * - 접두어가 없는 기존 해시는 BCrypt로 검증
+     * - BCrypt 비용은 기동 시 목표 지연 시간에 맞춰 보정 (또는 고정값 사용)
+     * 
+     * 저장된 해시의 알고리즘이 현재 설정과 다르거나 BCrypt 비용이 현재 비용보다 낮으면 upgradeEncoding()이 true를 반환하며,
+     * AuthService.login에서 로그인 성공 후 재암호화합니다.
+     * (비용이 더 높은 해시는 그대로 두므로, 호스트/재기동마다 보정값이 달라도 비용을 낮추거나 재암호화를 반복하지 않음)
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        SecurityProperties.Password password = securityProperties.getPassword();
+        int strength = password.getBcryptStrength() > 0
+                ? password.getBcryptStrength()
+                : BCryptStrengthCalibrator.calibrate(
+                        password.getTargetHashMillis(),
+                        password.getMinBcryptStrength(),
+                        password.getMaxBcryptStrength());
+
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(password.getEncodingId(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없는 기존 BCrypt 해시
+        return encoder;
     }
 
     @Bean
@@ -30,8 +74,15 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable()) // CSRF 비활성화 (API 서버)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 비활성화
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 필터 추가
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class) // 속도 제한 (JWT 검증/비밀번호 해시 전에 거부)
+            .addFilterAfter(introspectionClientFilter, JwtAuthenticationFilter.class) // 토큰 일괄 확인 호출 서비스 인증
             .authorizeHttpRequests(authz -> authz
+                .requestMatchers(IntrospectionClientFilter.INTROSPECTION_PATH, IntrospectionClientFilter.REVOCATIONS_PATH)
+                        .hasRole(IntrospectionClientFilter.INTROSPECTION_ROLE) // 등록된 서비스만 호출 가능
                 .requestMatchers(securityProperties.getPermitAllPathsArray()).permitAll() // 인증 없이 허용 (yml에서 관리)
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort)
+                        .permitAll() // actuator 전용 포트 (내부 네트워크에만 노출)
+                .requestMatchers("/api/admin/**").hasRole("ADMIN") // 관리자 API (access token의 roles 클레임)
                 .anyRequest().authenticated() // 나머지는 JWT 필터에서 자동 검증
             )
             .cors(); // CORS는 WebConfig에서 처리
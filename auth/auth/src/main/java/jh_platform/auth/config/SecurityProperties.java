@@ -18,6 +18,16 @@ import java.util.List;
  *   permit-all-paths:
  *     - /api/auth/signup
  *     - /api/auth/login
+ *   token-cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *   password:
+ *     encoding-id: bcrypt
+ *     target-hash-millis: 100
+ *   hashing:
+ *     threads: 0
+ *     queue-capacity: 64
+ *     queue-deadline-millis: 1000
  */
 @Component
 @ConfigurationProperties(prefix = "security")   //  yml security부분 자동 바인딩
@@ -30,6 +40,41 @@ public class SecurityProperties {
      */
     private List<String> permitAllPaths = new ArrayList<>();
 
+    /**
+     * 검증된 access token 캐시 설정
+     */
+    private TokenCache tokenCache = new TokenCache();
+
+    /**
+     * 비밀번호 해시 설정
+     */
+    private Password password = new Password();
+
+    /**
+     * 비밀번호 해시 전용 스레드 풀 설정
+     */
+    private Hashing hashing = new Hashing();
+
+    /**
+     * 로그인 실패 잠금 설정
+     */
+    private Lockout lockout = new Lockout();
+
+    /**
+     * access token 폐기 목록 설정
+     */
+    private Revocation revocation = new Revocation();
+
+    /**
+     * 경로별 요청 속도 제한 설정
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 토큰 일괄 확인 API 설정
+     */
+    private Introspection introspection = new Introspection();
+
     /**
      * permitAll()에 사용할 경로 배열 반환
      * 
@@ -38,5 +83,242 @@ public class SecurityProperties {
     public String[] getPermitAllPathsArray() {
         return permitAllPaths.toArray(new String[0]);
     }
-}
 
+    /**
+     * 검증된 access token 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class TokenCache {
+
+        /**
+         * 캐시 사용 여부 (false면 매 요청마다 서명 검증)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 캐시에 보관할 최대 토큰 수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+         */
+        private long maximumSize = 10_000;
+    }
+
+    /**
+     * 비밀번호 해시 설정
+     */
+    @Getter
+    @Setter
+    public static class Password {
+
+        /**
+         * 새 해시에 사용할 알고리즘 ID (bcrypt, pbkdf2, argon2)
+         * 다른 알고리즘으로 저장된 해시는 로그인 성공 시 이 알고리즘으로 재암호화됩니다.
+         */
+        private String encodingId = "bcrypt";
+
+        /**
+         * BCrypt 비용 고정값 (0이면 기동 시 target-hash-millis에 맞춰 보정)
+         * 보정값은 호스트/재기동마다 달라질 수 있으므로, 운영에서는 보정 로그로 확인한 값을 고정해 모든 인스턴스가 같은 비용으로 해시하게 합니다.
+         */
+        private int bcryptStrength = 0;
+
+        /**
+         * BCrypt 해시 1회당 목표 지연 시간 (밀리초)
+         */
+        private long targetHashMillis = 100;
+
+        /**
+         * 보정 시 최소 BCrypt 비용
+         */
+        private int minBcryptStrength = 10;
+
+        /**
+         * 보정 시 최대 BCrypt 비용
+         */
+        private int maxBcryptStrength = 14;
+    }
+
+    /**
+     * 비밀번호 해시 전용 스레드 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Hashing {
+
+        /**
+         * 해시 스레드 수 (0이면 CPU 코어 수)
+         */
+        private int threads = 0;
+
+        /**
+         * 대기열 최대 길이 (가득 차면 503)
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 대기열에서 기다릴 수 있는 최대 시간 (밀리초, 넘을 것으로 예상되면 503)
+         */
+        private long queueDeadlineMillis = 1000;
+
+        /**
+         * 503 응답의 Retry-After 값 (초)
+         */
+        private long retryAfterSeconds = 1;
+    }
+
+    /**
+     * 로그인 실패 잠금 설정
+     */
+    @Getter
+    @Setter
+    public static class Lockout {
+
+        /**
+         * 연속 실패 허용 횟수 (이 횟수에 도달하면 잠금, 0이면 잠금 사용 안 함)
+         */
+        private int maxFailures = 5;
+
+        /**
+         * 마지막 실패 이후 잠금 유지 시간 (밀리초)
+         */
+        private long lockDurationMillis = 900_000;
+
+        /**
+         * 메모리에 모은 실패 횟수/마지막 로그인 일시를 TB_USER에 반영하는 주기 (밀리초)
+         */
+        private long flushIntervalMillis = 5_000;
+    }
+
+    /**
+     * access token 폐기 목록 설정
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+
+        /**
+         * access token 유효기간 동안 폐기될 것으로 예상되는 토큰 수 (Bloom 필터 크기 산정용)
+         */
+        private long expectedRevocations = 100_000;
+
+        /**
+         * Bloom 필터 목표 오탐률 (오탐 시에는 정확한 집합을 한 번 더 확인)
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * 폐기 변경분 조회(GET /api/auth/revocations) 한 번에 돌려줄 최대 항목 수 (남은 항목은 more로 표시)
+         */
+        private int feedMaxEvents = 1_000;
+
+        /**
+         * 더 이상 필요 없는 변경분 항목 정리 주기 (밀리초)
+         */
+        private long feedPruneIntervalMillis = 60_000;
+    }
+
+    /**
+     * 경로별 요청 속도 제한 설정 (RateLimitFilter)
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /**
+         * 속도 제한 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 메모리에 유지할 최대 키(IP, 사용자명) 수
+         */
+        private long maximumKeys = 100_000;
+
+        /**
+         * 이 시간 동안 요청이 없는 키는 제거 (밀리초)
+         */
+        private long idleTimeoutMillis = 600_000;
+
+        /**
+         * 사용자명을 꺼내기 위해 읽을 요청 본문 최대 크기 (바이트, 넘으면 413)
+         */
+        private int maxBodyBytes = 8_192;
+
+        /**
+         * 경로별 제한 규칙
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        /**
+         * 경로 하나의 제한 규칙 (period-millis 동안 최대 permits회, 한꺼번에 permits회까지 허용)
+         */
+        @Getter
+        @Setter
+        public static class Rule {
+
+            /**
+             * 적용할 경로 (정확히 일치)
+             */
+            private String path;
+
+            /**
+             * 제한 주기 (밀리초)
+             */
+            private long periodMillis = 60_000;
+
+            /**
+             * 클라이언트 IP별 허용 횟수 (0이면 제한 없음)
+             */
+            private int ipPermits = 0;
+
+            /**
+             * 요청 본문의 username + 클라이언트 IP별 실패 허용 횟수 (0이면 제한 없음, 성공한 요청은 세지 않음)
+             */
+            private int usernamePermits = 0;
+        }
+    }
+
+    /**
+     * 토큰 일괄 확인 API 설정 (POST /api/auth/introspect)
+     */
+    @Getter
+    @Setter
+    public static class Introspection {
+
+        /**
+         * 한 번에 확인할 수 있는 최대 토큰 수
+         */
+        private int maxTokens = 1_000;
+
+        /**
+         * 이 개수 이상이면 병렬로 검증 (이 개수씩 나눠 전용 스레드 풀에 제출)
+         */
+        private int parallelThreshold = 32;
+
+        /**
+         * 병렬 검증 전용 스레드 수 (대기열이 차면 요청 스레드가 직접 검증)
+         */
+        private int threads = 4;
+
+        /**
+         * 병렬 검증 대기열 크기 (작업 단위: parallel-threshold개 토큰)
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * 호출을 허용할 서비스 목록 (HTTP Basic, 비밀값이 비어 있으면 제외)
+         */
+        private List<Client> clients = new ArrayList<>();
+
+        /**
+         * 토큰 일괄 확인을 호출하는 서비스 계정
+         */
+        @Getter
+        @Setter
+        public static class Client {
+
+            private String id;
+
+            private String secret;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package jh_platform.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jh_platform.auth.model.TokenClaims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기된 access token 목록 (인스턴스 메모리)
+ *
+ * access token은 exp까지 서명만으로 유효하므로, 로그아웃한 토큰을 요청마다 DB에서 확인하지 않고
+ * 메모리에서만 거릅니다.
+ *
+ * - 토큰 단위 폐기: jti를 Bloom 필터와 정확한 집합(Caffeine)에 함께 저장
+ *   확인 시 Bloom 필터에 없으면 바로 통과, 있을 때만 정확한 집합을 확인 (오탐으로 잘못 거부하지 않음)
+ * - 사용자 단위 폐기(전체 로그아웃): 사용자별 기준 시각(같은 초 포함)까지 발급된 토큰을 모두 거부
+ * - 모든 항목은 해당 토큰이 어차피 만료되는 시각(exp, 또는 기준 시각 + access token 유효기간)에 제거
+ * - 폐기 정보는 인스턴스별이므로, 여러 인스턴스에서는 로그아웃을 처리한 인스턴스에서만 즉시 거부됨
+ * - 게이트웨이도 거부할 수 있도록 폐기 내용을 RevocationFeed에 함께 기록
+ */
+@Component
+public class TokenRevocationList {
+
+    private final GenerationalBloomFilter bloomFilter;
+
+    /**
+     * jti -> 토큰 만료 시각 (항목은 만료 시각에 제거)
+     */
+    private final Cache<String, Instant> revokedTokenIds;
+
+    /**
+     * 사용자명 -> 이 시각 이전에 발급된 토큰은 폐기 (access token 유효기간이 지나면 제거)
+     */
+    private final Cache<String, Instant> revokedBefore;
+
+    private final RevocationFeed revocationFeed;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public TokenRevocationList(SecurityProperties securityProperties,
+                               RevocationFeed revocationFeed,
+                               @Value("${spring.jwt.access-validation-millis}") long accessValidityInMs) {
+        this.revocationFeed = revocationFeed;
+        SecurityProperties.Revocation properties = securityProperties.getRevocation();
+        this.bloomFilter = new GenerationalBloomFilter(
+                properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+        this.revokedTokenIds = Caffeine.newBuilder()
+                .expireAfter(new ExpiresAtValueExpiry())
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(accessValidityInMs))
+                .build();
+    }
+
+    /**
+     * Bloom 필터 세대 교체 (access token 유효기간마다, 두 번 교체되면 항목이 사라짐)
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.access-validation-millis}",
+            initialDelayString = "${spring.jwt.access-validation-millis}")
+    public void rotate() {
+        bloomFilter.rotate();
+    }
+
+    /**
+     * 토큰 하나를 폐기합니다. (jti가 없거나 이미 만료된 토큰은 무시)
+     *
+     * @param claims 폐기할 access token의 클레임
+     */
+    public void revoke(TokenClaims claims) {
+        if (claims.getTokenId() == null || claims.getExpiresAt() == null || claims.isExpiredAt(Instant.now())) {
+            return;
+        }
+        revokedTokenIds.put(claims.getTokenId(), claims.getExpiresAt());
+        bloomFilter.put(claims.getTokenId());
+        revocationFeed.tokenRevoked(claims.getTokenId(), claims.getExpiresAt());
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 모든 토큰을 폐기합니다. (전체 기기 로그아웃)
+     *
+     * @param username 사용자명
+     */
+    public void revokeAll(String username) {
+        // iat는 초 단위(내림)이므로 기준 시각도 초 단위로 내리고, 같은 초에 발급된 토큰까지 폐기
+        // (로그아웃과 같은 초에 새로 발급된 토큰도 거부되며, 클라이언트는 /refresh로 재발급)
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokedBefore.put(username, cutoff);
+        revocationFeed.userRevoked(username, cutoff);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (메모리 조회만 수행)
+     *
+     * @param claims 검증된 access token 클레임
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        boolean revoked = isRevokedById(claims) || isRevokedBySubject(claims);
+        if (revoked) {
+            rejectedCount.increment();
+        }
+        return revoked;
+    }
+
+    private boolean isRevokedById(TokenClaims claims) {
+        String tokenId = claims.getTokenId();
+        return tokenId != null
+                && bloomFilter.mightContain(tokenId)
+                && revokedTokenIds.getIfPresent(tokenId) != null;
+    }
+
+    private boolean isRevokedBySubject(TokenClaims claims) {
+        if (claims.getIssuedAt() == null) {
+            return false;
+        }
+        Instant cutoff = revokedBefore.getIfPresent(claims.getSubject());
+        return cutoff != null && !claims.getIssuedAt().isAfter(cutoff);
+    }
+
+    /**
+     * 폐기된 jti 수
+     */
+    public long getRevokedTokenCount() {
+        return revokedTokenIds.estimatedSize();
+    }
+
+    /**
+     * 폐기로 거부한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 항목을 값(토큰 만료 시각)에 만료시키는 정책
+     */
+    private static class ExpiresAtValueExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String key, Instant value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Instant value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Instant value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
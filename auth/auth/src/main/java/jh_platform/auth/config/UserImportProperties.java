@@ -0,0 +1,34 @@
+package jh_platform.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 일괄 등록 설정 Properties
+ * 
+ * application.yml의 user-import 설정을 읽어옵니다.
+ * 
+ * 사용 예시:
+ * user-import:
+ *   chunk-size: 500
+ *   hash-threads: 2
+ */
+@Component
+@ConfigurationProperties(prefix = "user-import")
+@Getter
+@Setter
+public class UserImportProperties {
+
+    /**
+     * 한 번에 읽어서 중복 확인/해시/INSERT할 행 수 (메모리에는 이 행 수만큼만 유지)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 일괄 등록 전용 비밀번호 해시 스레드 수
+     * 로그인용 해시 풀(security.hashing)과 분리되어 있으므로, 로그인 처리량을 해치지 않을 만큼만 설정
+     */
+    private int hashThreads = 2;
+}
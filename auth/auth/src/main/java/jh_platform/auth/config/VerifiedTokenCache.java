@@ -0,0 +1,125 @@
+package jh_platform.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.model.TokenClaims;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 access token 캐시
+ *
+ * 브라우저는 accessToken 쿠키 하나를 만료될 때까지 수백 번 다시 보내므로,
+ * 한 번 검증한 토큰은 SHA-256 다이제스트를 키로 클레임을 보관해 두고
+ * 같은 토큰이 다시 오면 파싱/서명 검증 없이 바로 클레임을 돌려줍니다.
+ *
+ * - 키는 토큰 원문이 아니라 32바이트 다이제스트이므로 항목당 메모리가 일정합니다.
+ * - 각 항목은 토큰 자신의 exp 시각에 만료됩니다.
+ * - 최대 개수를 넘으면 사용 빈도가 낮은 항목부터 제거됩니다.
+ * - security.token-cache.enabled=false면 캐시 없이 매번 검증합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 다이제스트 -> 검증된 클레임 (비활성화 시 null)
+     */
+    private final Cache<TokenDigest, TokenClaims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, SecurityProperties securityProperties) {
+        this.jwtTokenProvider = jwtTokenProvider;
+
+        SecurityProperties.TokenCache properties = securityProperties.getTokenCache();
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfter(new ExpiresAtTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * 캐시를 먼저 확인하고, 없으면 JwtTokenProvider로 검증한 뒤 캐시에 저장합니다.
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 검증된 클레임
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
+     */
+    public TokenClaims verify(String token) {
+        if (cache == null) {
+            return jwtTokenProvider.verify(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        TokenClaims claims = cache.getIfPresent(key);
+        if (claims != null && !claims.isExpiredAt(Instant.now())) {
+            return claims;
+        }
+
+        claims = jwtTokenProvider.verify(token);
+        if (claims.getExpiresAt() != null) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 캐시 적중/실패/제거 통계 (비활성화 시 빈 통계)
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (4개의 long으로 보관)
+     */
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // 모든 JVM 구현체는 SHA-256을 제공해야 함
+                throw new IllegalStateException(e);
+            }
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    /**
+     * 항목을 토큰의 exp 시각에 만료시키는 정책
+     */
+    private static class ExpiresAtTokenExpiry implements Expiry<TokenDigest, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, TokenClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package jh_platform.auth.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시기
+ *
+ * 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면
+ * 캐리어 스레드를 놓지 못해 동시 처리량이 캐리어 수만큼으로 줄어듭니다.
+ * JDBC/MyBatis 경로에서 이런 구간이 생기는지 JFR의 jdk.VirtualThreadPinned 이벤트로 감시하고,
+ * 발생하면 스택과 함께 경고 로그를 남깁니다.
+ *
+ * spring.threads.virtual.enabled=true일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    /**
+     * 이 시간 이상 고정된 경우만 기록 (짧은 고정은 무시)
+     */
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    private static final int MAX_FRAMES = 8;
+
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(THRESHOLD).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 모드: 캐리어 고정 감시 시작 (임계값 {}ms)", THRESHOLD.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            int count = 0;
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                if (count++ == MAX_FRAMES) {
+                    break;
+                }
+                frames.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName());
+            }
+        }
+        log.warn("가상 스레드 캐리어 고정 {}ms{}", event.getDuration().toMillis(), frames);
+    }
+
+    /**
+     * 감지된 고정 횟수
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package jh_platform.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jh_platform.auth.dto.ApiResponse;
+import jh_platform.auth.dto.RoleGrantRequest;
+import jh_platform.auth.dto.UserImportSummary;
+import jh_platform.auth.model.UserRoles;
+import jh_platform.auth.service.RoleResolver;
+import jh_platform.auth.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자용 사용자 관리 API (ROLE_ADMIN만 접근, SecurityConfig 참고)
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+
+    private final RoleResolver roleResolver;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 일괄 등록 API
+     * 
+     * 요청 본문(NDJSON 또는 CSV)을 읽는 대로 처리하고,
+     * 등록하지 못한 행은 처리되는 즉시 NDJSON 한 줄씩 응답에 씁니다.
+     * 마지막 줄은 요약({"summary":true,"total":...,"inserted":...,"duplicates":...,"errors":...})입니다.
+     * 
+     * 예시: curl -X POST -H "Content-Type: text/csv" --data-binary @users.csv .../api/admin/users/import
+     * 
+     * @param request 요청 본문 (Content-Type: application/x-ndjson 또는 text/csv)
+     * @param response NDJSON 응답
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            UserImportSummary summary = userImportService.importUsers(reader, format, result -> writeLine(writer, result));
+            writeLine(writer, summary);
+        }
+    }
+
+    /**
+     * 사용자 권한 교체 API
+     * 
+     * TB_USER_ROLE을 요청한 권한 코드 목록으로 바꾸고 권한 버전(ROLE_VER)을 올립니다.
+     * 이전 권한으로 발급된 access token은 다음 요청부터 거부되고, 클라이언트는 /api/auth/refresh로 새 권한의 토큰을 받습니다.
+     * 
+     * @param username 사용자명
+     * @param request 부여할 권한 코드 목록
+     * @return 변경 후 권한 목록/버전
+     */
+    @PutMapping("/{username}/roles")
+    public ApiResponse<UserRoles> replaceRoles(@PathVariable String username, @RequestBody RoleGrantRequest request) {
+        return ApiResponse.success("권한 변경 완료", roleResolver.replaceRoles(username, request.getRoles()));
+    }
+
+    private void writeLine(PrintWriter writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+        } catch (IOException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+        writer.write('\n');
+        writer.flush();
+    }
+}
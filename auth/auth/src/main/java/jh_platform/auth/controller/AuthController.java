@@ -3,18 +3,30 @@ package jh_platform.auth.controller;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jh_platform.auth.config.JwtTokenProvider;
+import jh_platform.auth.config.JwtAuthenticationFilter;
+import jh_platform.auth.config.RevocationFeed;
 import jh_platform.auth.dto.ApiResponse;
+import jh_platform.auth.dto.IntrospectionRequest;
+import jh_platform.auth.dto.RevocationDelta;
+import jh_platform.auth.dto.TokenIntrospection;
+import jh_platform.auth.model.ClientInfo;
 import jh_platform.auth.model.LoginTokens;
+import jh_platform.auth.model.RefreshToken;
+import jh_platform.auth.model.TokenClaims;
 import jh_platform.auth.model.User;
+import jh_platform.auth.model.UserProfile;
 import jh_platform.auth.service.AuthService;
+import jh_platform.auth.service.TokenIntrospectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -24,8 +36,16 @@ import java.util.Map;
 @CrossOrigin
 public class AuthController {
 
+    /**
+     * USER_AGENT 컬럼 길이
+     */
+    private static final int USER_AGENT_MAX_LENGTH = 255;
+
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    private final RevocationFeed revocationFeed;
 
     @Value("${spring.jwt.access-validation-millis}")
     private Long accessValidityInMs;
@@ -56,11 +76,12 @@ public class AuthController {
     @PostMapping("/login")
     public ApiResponse<Void> login(
             @RequestBody Map<String, String> request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response) {
         String username = request.get("username");
         String password = request.get("password");
 
-        LoginTokens tokens = authService.login(username, password);
+        LoginTokens tokens = authService.login(username, password, clientInfo(httpRequest));
 
         String accessToken = tokens.getAccessToken();
         String refreshToken = tokens.getRefreshToken();
@@ -137,14 +158,16 @@ public class AuthController {
 
     /**
      * 로그아웃 API
-     * HttpOnly Cookie 삭제 및 DB의 Refresh Token 삭제
+     * HttpOnly Cookie 삭제 및 DB의 세션(Refresh Token) 삭제
      * 
+     * @param all true면 모든 기기의 세션 삭제, false면 현재 기기의 세션만 삭제
      * @param request HttpServletRequest (쿠키에서 refreshToken 추출용)
      * @param response HttpServletResponse (쿠키 삭제용)
      * @return 성공 응답
      */
     @PostMapping("/logout")
     public ApiResponse<Void> logout(
+            @RequestParam(defaultValue = "false") boolean all,
             HttpServletRequest request,
             HttpServletResponse response) {
         // 1. 쿠키에서 refreshToken 추출하여 username 확인
@@ -159,37 +182,39 @@ public class AuthController {
             }
         }
 
-        // 2. username 추출 후 DB에서 refreshToken 삭제
+        // 2. username, 세션 ID 추출 후 DB에서 세션 삭제
         String username = null;
+        String sessionId = null;
+        TokenClaims claims = (TokenClaims) request.getAttribute(JwtAuthenticationFilter.TOKEN_CLAIMS_ATTRIBUTE);
         
-        // 방법 1: refreshToken에서 username 추출 시도
-        if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
-            try {
-                username = jwtTokenProvider.getUsername(refreshToken);
-            } catch (Exception e) {
-                // 토큰 파싱 실패 시 무시
+        // 방법 1: refreshToken으로 세션 조회
+        if (refreshToken != null) {
+            RefreshToken session = authService.findSessionByRefreshToken(refreshToken);
+            if (session != null) {
+                username = session.getUsername();
+                sessionId = session.getSessionId();
             }
         }
         
-        // 방법 2: refreshToken이 없거나 유효하지 않으면 SecurityContext에서 가져오기
+        // 방법 2: refreshToken이 없거나 유효하지 않으면 access token 클레임에서 가져오기 (JWT 필터에서 설정됨)
         if (username == null) {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                username = authentication.getName();
+            if (claims != null) {
+                username = claims.getSubject();
+                sessionId = claims.getSessionId();
             }
         }
         
-        // 3. username이 있으면 DB에서 refreshToken 삭제
+        // 3. username이 있으면 DB에서 세션 삭제 및 현재 access token 폐기
         if (username != null) {
             try {
-                log.info("로그아웃 요청: username={}", username);
-                authService.logout(username);
+                log.info("로그아웃 요청: username={}, all={}", username, all);
+                authService.logout(username, sessionId, all, claims);
             } catch (Exception e) {
-                log.error("로그아웃: DB에서 refreshToken 삭제 실패, username={}", username, e);
+                log.error("로그아웃: DB에서 세션 삭제 실패, username={}", username, e);
                 // DB 삭제 실패 시 로그만 남기고 계속 진행 (쿠키는 삭제)
             }
         } else {
-            log.warn("로그아웃 요청: username을 찾을 수 없음 (refreshToken과 SecurityContext 모두 확인 불가)");
+            log.warn("로그아웃 요청: username을 찾을 수 없음 (refreshToken과 accessToken 모두 확인 불가)");
         }
 
         // 3. 쿠키 삭제 (MaxAge를 0으로 설정)
@@ -212,25 +237,74 @@ public class AuthController {
      * 현재 로그인한 사용자 정보 조회 API
      * 
      * JWT 필터에서 이미 인증 처리를 했으므로, SecurityContext에서 사용자명을 가져옵니다.
+     * 응답에 ETag를 붙이며, 요청의 If-None-Match가 같으면 본문 없이 304로 응답합니다.
+     * (ResponseEntity의 ETag로 Spring MVC가 비교하므로 JSON 직렬화도 하지 않음)
      * 
      * @return 사용자 정보 (비밀번호 제외)
      */
     @GetMapping("/user")
-    public ApiResponse<User> getUserInfo() {
+    public ResponseEntity<ApiResponse<User>> getUserInfo() {
         // SecurityContext에서 인증 정보 가져오기 (JWT 필터에서 설정됨)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated()) {
             // 인증되지 않은 경우 (필터에서 처리되어 발생하지 않아야 하지만 안전장치)
-            return ApiResponse.error(401, "인증되지 않은 사용자입니다.");
+            return ResponseEntity.ok(ApiResponse.error(401, "인증되지 않은 사용자입니다."));
         }
         
         // 인증 정보에서 사용자명 추출 (JWT 필터에서 설정한 username)
         String username = authentication.getName();
         
-        // 사용자 정보 조회 (비밀번호 제외)
-        User user = authService.getUserInfo(username);
+        // 사용자 정보 조회 (비밀번호 제외, 캐시 적중 시 DB 조회 없음)
+        UserProfile profile = authService.getUserProfile(username);
         
-        return ApiResponse.success(user);
+        // 사용자별 응답이므로 공유 캐시 저장 금지, 브라우저는 매번 ETag로 재검증
+        return ResponseEntity.ok()
+                .eTag(profile.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(profile.getUser()));
+    }
+
+    /**
+     * 토큰 일괄 확인 API (다른 서비스용)
+     * 
+     * 여러 사용자의 access token을 한 번에 확인합니다. (예: 채팅 메시지를 받을 사용자 전체 권한 확인)
+     * 각 결과의 cacheMaxAgeSeconds 동안은 호출한 서비스에서 결과를 재사용해도 됩니다.
+     * security.introspection.clients에 등록한 서비스만 HTTP Basic으로 호출할 수 있습니다. (IntrospectionClientFilter)
+     * 
+     * @param request 확인할 토큰 목록
+     * @return 요청과 같은 순서의 확인 결과
+     */
+    @PostMapping("/introspect")
+    public ApiResponse<List<TokenIntrospection>> introspect(@RequestBody IntrospectionRequest request) {
+        return ApiResponse.success("토큰 확인 완료", tokenIntrospectionService.introspect(request.getTokens()));
+    }
+
+    /**
+     * 폐기/권한 변경분 조회 API (게이트웨이용)
+     * 
+     * 게이트웨이는 이 변경분을 주기적으로 가져가 로컬에서 토큰을 거부하므로, 요청 처리 중에는 auth 서비스를 호출하지 않습니다.
+     * 토큰 일괄 확인과 같이 security.introspection.clients에 등록한 서비스만 호출할 수 있습니다. (IntrospectionClientFilter)
+     * 
+     * @param epoch 이전 조회에서 받은 epoch (처음이면 생략)
+     * @param since 이전 조회에서 받은 sequence (처음이면 0)
+     * @return since 이후의 변경분
+     */
+    @GetMapping("/revocations")
+    public ApiResponse<RevocationDelta> revocations(
+            @RequestParam(required = false) String epoch,
+            @RequestParam(defaultValue = "0") long since) {
+        return ApiResponse.success("폐기 변경분 조회 완료", revocationFeed.since(epoch, since));
+    }
+
+    /**
+     * 요청의 클라이언트 정보 추출 (User-Agent는 컬럼 길이에 맞게 자름)
+     */
+    private ClientInfo clientInfo(HttpServletRequest request) {
+        String userAgent = request.getHeader("User-Agent");
+        if (userAgent != null && userAgent.length() > USER_AGENT_MAX_LENGTH) {
+            userAgent = userAgent.substring(0, USER_AGENT_MAX_LENGTH);
+        }
+        return new ClientInfo(request.getRemoteAddr(), userAgent);
     }
 }
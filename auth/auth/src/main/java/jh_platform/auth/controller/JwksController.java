@@ -0,0 +1,37 @@
+package jh_platform.auth.controller;
+
+import jh_platform.auth.config.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWKS(JSON Web Key Set) 공개 API
+ *
+ * 다른 서비스가 access token을 직접 검증할 수 있도록 서명 공개키 목록을 제공합니다.
+ * 표준 형식을 따라야 하므로 ApiResponse로 감싸지 않고 JWKS 본문을 그대로 반환합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    /**
+     * JWKS 응답 캐시 시간
+     * 다음 키를 미리 공개해 두므로 키 교체 주기보다 짧기만 하면 됩니다.
+     */
+    private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(jwtKeyRing.toJwks());
+    }
+}
@@ -0,0 +1,18 @@
+package jh_platform.auth.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 일괄 확인 요청 (POST /api/auth/introspect)
+ */
+@Data
+public class IntrospectionRequest {
+
+    /**
+     * 확인할 access token 목록
+     */
+    private List<String> tokens = new ArrayList<>();
+}
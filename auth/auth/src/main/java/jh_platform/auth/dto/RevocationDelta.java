@@ -0,0 +1,37 @@
+package jh_platform.auth.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 폐기/권한 변경분 조회 결과 (GET /api/auth/revocations)
+ *
+ * 호출한 서비스는 epoch와 sequence를 저장해 두었다가 다음 조회에 그대로 보냅니다.
+ * epoch가 바뀌었으면(auth 서비스 재시작) 남아 있는 항목을 처음부터 다시 받습니다.
+ */
+@Getter
+@Builder
+public class RevocationDelta {
+
+    /**
+     * 기록 세대 (auth 서비스 인스턴스가 기동할 때마다 바뀜)
+     */
+    private final String epoch;
+
+    /**
+     * 이번 결과에 포함된 마지막 순번 (다음 조회의 since)
+     */
+    private final long sequence;
+
+    /**
+     * 아직 가져가지 않은 항목이 남아 있으면 true (바로 다시 조회)
+     */
+    private final boolean more;
+
+    /**
+     * since 이후의 항목 (순번 순)
+     */
+    private final List<RevocationEvent> events;
+}
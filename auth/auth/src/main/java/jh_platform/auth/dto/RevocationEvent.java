@@ -0,0 +1,53 @@
+package jh_platform.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 폐기/권한 변경 항목 하나 (GET /api/auth/revocations)
+ *
+ * type에 따라 채워지는 필드가 다릅니다.
+ * - TOKEN: tokenId (이 jti의 토큰 거부)
+ * - USER: subject, revokedBefore (이 시각까지 발급된 사용자의 토큰 모두 거부, 전체 기기 로그아웃)
+ * - ROLE_VERSION: subject, roleVersion (rv 클레임이 이 값보다 낮은 토큰 거부)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RevocationEvent {
+
+    public enum Type { TOKEN, USER, ROLE_VERSION }
+
+    /**
+     * 기록 순번 (다음 조회의 since로 사용)
+     */
+    private final long sequence;
+
+    private final Type type;
+
+    /**
+     * 사용자명 (USER, ROLE_VERSION)
+     */
+    private final String subject;
+
+    /**
+     * 폐기된 토큰 jti (TOKEN)
+     */
+    private final String tokenId;
+
+    /**
+     * 이 시각(epoch 초, 같은 초 포함)까지 발급된 토큰 폐기 (USER)
+     */
+    private final Long revokedBefore;
+
+    /**
+     * 변경 후 권한 버전 (ROLE_VERSION)
+     */
+    private final Integer roleVersion;
+
+    /**
+     * 이 항목이 거부할 토큰이 모두 만료되는 시각 (epoch 초, 이후에는 보관할 필요 없음)
+     */
+    private final long retainUntil;
+}
@@ -0,0 +1,18 @@
+package jh_platform.auth.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 권한 교체 요청 (PUT /api/admin/users/{username}/roles)
+ */
+@Data
+public class RoleGrantRequest {
+
+    /**
+     * 부여할 권한 코드 목록 (ex: ROLE_ADMIN, 비어 있으면 모든 권한 회수)
+     */
+    private List<String> roles = new ArrayList<>();
+}
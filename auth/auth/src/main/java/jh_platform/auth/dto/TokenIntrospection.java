@@ -0,0 +1,59 @@
+package jh_platform.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 토큰 하나의 확인 결과 (요청 순서와 같은 순서로 반환)
+ * 
+ * active가 true인 결과는 cacheMaxAgeSeconds 동안 호출한 서비스에서 캐시해도 됩니다.
+ * (단, 그 사이에 로그아웃/권한 변경이 일어나면 반영되지 않음)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+    /**
+     * 서명/만료/폐기/권한 버전 확인을 모두 통과했는지 여부
+     */
+    private final boolean active;
+
+    /**
+     * 비활성 사유 (EXPIRED, BAD_SIGNATURE, MALFORMED, WRONG_TYPE, REVOKED, ROLES_CHANGED), active면 null
+     */
+    private final String reason;
+
+    /**
+     * 사용자명 (sub)
+     */
+    private final String subject;
+
+    /**
+     * 권한 코드 목록 (ROLE_ 접두어 제외)
+     */
+    private final List<String> roles;
+
+    /**
+     * 세션 ID (sid)
+     */
+    private final String sessionId;
+
+    /**
+     * 만료 시각 (epoch 초)
+     */
+    private final Long expiresAt;
+
+    /**
+     * 로그아웃으로 폐기된 토큰인지 여부
+     */
+    private final boolean revoked;
+
+    /**
+     * 이 결과를 캐시해도 되는 시간 (초, 토큰 남은 유효기간), 비활성이면 0
+     */
+    private final long cacheMaxAgeSeconds;
+}
@@ -0,0 +1,32 @@
+package jh_platform.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 등록에서 등록하지 못한 행 (NDJSON 응답의 한 줄)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportRowResult {
+
+    public static final String DUPLICATE = "DUPLICATE";
+
+    public static final String ERROR = "ERROR";
+
+    /**
+     * 요청 본문의 줄 번호 (1부터, CSV 헤더 포함)
+     */
+    private final long line;
+
+    private final String username;
+
+    /**
+     * DUPLICATE, ERROR
+     */
+    private final String status;
+
+    private final String message;
+}
@@ -0,0 +1,27 @@
+package jh_platform.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 등록 결과 요약 (NDJSON 응답의 마지막 줄)
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportSummary {
+
+    private final boolean summary = true;
+
+    private final long total;
+
+    private final long inserted;
+
+    private final long duplicates;
+
+    private final long errors;
+
+    /**
+     * 본문을 끝까지 처리했는지 여부 (중단된 경우 false, 읽지 않은 줄은 집계에 없음)
+     */
+    private final boolean completed;
+}
@@ -0,0 +1,11 @@
+package jh_platform.auth.exception;
+
+/**
+ * 로그인 실패 횟수 초과로 계정이 잠겼을 때 발생하는 예외
+ */
+public class AccountLockedException extends BaseException {
+
+    public AccountLockedException() {
+        super("로그인 실패 횟수를 초과하여 계정이 잠겼습니다. 잠시 후 다시 시도해주세요.", 423);
+    }
+}
@@ -2,6 +2,7 @@ package jh_platform.auth.exception;
 
 import jh_platform.auth.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,6 +37,23 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getStatusCode(), e.getMessage()));
     }
 
+    /**
+     * ServiceBusyException 처리
+     * 
+     * 503 응답에 Retry-After 헤더를 추가하여 클라이언트가 재시도 시점을 알 수 있게 합니다.
+     * 
+     * @param e 발생한 예외
+     * @return 공통 응답 형식으로 변환된 에러 응답
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceBusyException(ServiceBusyException e) {
+        log.warn("ServiceBusyException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(e.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getStatusCode(), e.getMessage()));
+    }
+
     /**
      * 일반적인 RuntimeException을 처리
      * 
@@ -0,0 +1,37 @@
+package jh_platform.auth.exception;
+
+import lombok.Getter;
+
+/**
+ * JWT 토큰 검증에 실패했을 때 발생하는 예외
+ *
+ * 실패 사유(Reason)를 함께 담아 호출하는 쪽에서 만료/위조/형식 오류를 구분할 수 있습니다.
+ */
+@Getter
+public class InvalidTokenException extends BaseException {
+
+    /**
+     * 토큰 검증 실패 사유
+     */
+    public enum Reason {
+        /** 만료된 토큰 */
+        EXPIRED,
+        /** 서명이 일치하지 않는 토큰 */
+        BAD_SIGNATURE,
+        /** 형식이 잘못되었거나 지원하지 않는 토큰 */
+        MALFORMED,
+        /** 용도가 다른 토큰 (access token 자리에 refresh token을 보낸 경우 등) */
+        WRONG_TYPE,
+        /** 로그아웃 등으로 폐기된 토큰 */
+        REVOKED,
+        /** 발급 이후 권한이 바뀌어 재발급이 필요한 토큰 */
+        ROLES_CHANGED
+    }
+
+    private final Reason reason;
+
+    public InvalidTokenException(Reason reason) {
+        super("토큰이 유효하지 않습니다.", 401);
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,22 @@
+package jh_platform.auth.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 예외
+ *
+ * GlobalExceptionHandler에서 503 응답과 Retry-After 헤더로 변환됩니다.
+ */
+@Getter
+public class ServiceBusyException extends BaseException {
+
+    /**
+     * 클라이언트가 재시도하기까지 기다릴 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(long retryAfterSeconds) {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.", 503);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
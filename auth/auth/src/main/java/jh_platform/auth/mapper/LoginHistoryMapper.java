@@ -0,0 +1,15 @@
+package jh_platform.auth.mapper;
+
+import jh_platform.auth.model.LoginHistory;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface LoginHistoryMapper {
+
+    /**
+     * 로그인 이력 여러 건을 한 번의 multi-row INSERT로 저장
+     */
+    int insertBatch(List<LoginHistory> histories);
+}
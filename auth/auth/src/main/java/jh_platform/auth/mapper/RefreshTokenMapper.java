@@ -2,13 +2,48 @@ package jh_platform.auth.mapper;
 
 import jh_platform.auth.model.RefreshToken;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Mapper
 public interface RefreshTokenMapper {
 
-    RefreshToken findByUsername(String username);
+    /**
+     * 세션 ID로 조회 (기본키)
+     */
+    RefreshToken findBySessionId(String sessionId);
+
+    /**
+     * opaque refresh token 해시로 조회 (UK_USER_REFRESH_TOKEN_HASH 인덱스)
+     */
+    RefreshToken findByTokenHash(byte[] tokenHash);
+
+    /**
+     * 사용자의 세션 ID/토큰 해시 목록 조회 (전체 기기 로그아웃 시 캐시 무효화용, IX_USER_REFRESH_TOKEN_USER)
+     */
+    List<RefreshToken> findSessionKeysByUsername(String username);
 
-    void upsertRefreshToken(RefreshToken refreshToken);
+    /**
+     * 로그인 시 새 세션 추가 (다른 기기의 세션은 그대로 유지)
+     */
+    void insertSession(RefreshToken refreshToken);
 
+    /**
+     * 세션 하나 삭제 (현재 기기 로그아웃)
+     */
+    void deleteBySessionId(String sessionId);
+
+    /**
+     * 사용자의 모든 세션 삭제 (전체 기기 로그아웃)
+     */
     void deleteByUsername(String username);
+
+    /**
+     * 만료된 세션을 최대 limit건 삭제 (IX_USER_REFRESH_TOKEN_EXPIRES)
+     * 
+     * @return 삭제된 행 수
+     */
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
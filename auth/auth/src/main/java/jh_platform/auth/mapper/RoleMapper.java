@@ -0,0 +1,35 @@
+package jh_platform.auth.mapper;
+
+import jh_platform.auth.model.UserRoles;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+
+@Mapper
+public interface RoleMapper {
+
+    /**
+     * 사용자의 권한 코드 목록과 권한 버전 조회 (사용 중인 권한만)
+     * 
+     * @return 사용자가 없으면 null
+     */
+    UserRoles findUserRoles(String username);
+
+    /**
+     * 권한 버전 1 증가 (TB_USER_ROLE 변경 후 호출, 이전에 발급된 access token 재발급 유도)
+     */
+    void increaseRoleVersion(String username);
+
+    /**
+     * 사용자의 권한 매핑 전체 삭제 (권한 교체 시 insertUserRoles 전에 호출)
+     */
+    void deleteUserRoles(String username);
+
+    /**
+     * 권한 코드로 사용자 권한 매핑 추가 (사용 중인 권한만)
+     * 
+     * @return 추가된 행 수 (존재하지 않거나 사용하지 않는 코드는 제외됨)
+     */
+    int insertUserRoles(@Param("username") String username, @Param("roleCodes") Collection<String> roleCodes);
+}
@@ -2,6 +2,10 @@ package jh_platform.auth.mapper;
 
 import jh_platform.auth.model.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Mapper
 public interface UserMapper {
@@ -18,5 +22,30 @@ public interface UserMapper {
      */
     User findByUsernameForLogin(String username);
 
+    /**
+     * 로그인 실패 횟수/마지막 실패 일시 조회 (LoginActivityTracker 초기화용, primary-statements로 primary에서 조회)
+     */
+    User findLoginActivity(String username);
+
     void insertUser(User user);
+
+    /**
+     * 주어진 사용자명 중 이미 등록된 사용자명 조회 (일괄 등록 중복 확인용)
+     */
+    List<String> findExistingUsernames(@Param("usernames") List<String> usernames);
+
+    /**
+     * 비밀번호 해시 재암호화 (알고리즘/비용 변경 시)
+     * 비밀번호 자체가 바뀌는 것이 아니므로 LAST_UPDATE_PASS, UPD_DT는 변경하지 않음
+     */
+    void updatePasswordHash(@Param("username") String username, @Param("password") String password);
+
+    /**
+     * 로그인 실패 횟수/마지막 실패 일시/마지막 로그인 일시 반영 (LoginActivityTracker에서 일괄 실행)
+     * lastFailDt, lastLoginDt가 null이면 기존 값 유지, 사용자 정보 변경이 아니므로 UPD_DT는 변경하지 않음
+     */
+    void updateLoginActivity(@Param("username") String username,
+                             @Param("loginFailCnt") int loginFailCnt,
+                             @Param("lastFailDt") LocalDateTime lastFailDt,
+                             @Param("lastLoginDt") LocalDateTime lastLoginDt);
 }
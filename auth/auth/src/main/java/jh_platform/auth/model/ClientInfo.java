@@ -0,0 +1,16 @@
+package jh_platform.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청을 보낸 클라이언트 정보 (세션/로그인 이력 기록용)
+ */
+@Getter
+@AllArgsConstructor
+public class ClientInfo {
+
+    private final String ip;
+
+    private final String userAgent;
+}
@@ -0,0 +1,34 @@
+package jh_platform.auth.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 이력 레코드 (TB_LOGIN_HISTORY)
+ */
+@Data
+public class LoginHistory {
+
+    private Long userId;
+
+    private String username;
+
+    private String domainSe;
+
+    private String loginIp;
+
+    /**
+     * SUCCESS, FAIL
+     */
+    private String loginResult;
+
+    private String failReason;
+
+    private String userAgent;
+
+    /**
+     * 로그인 시도 시각 (큐에 넣은 시각, 실제 INSERT 시각과 다를 수 있음)
+     */
+    private LocalDateTime loginDt;
+}
@@ -4,13 +4,27 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 
+/**
+ * 리프레시 토큰(세션) 레코드 - 기기/로그인마다 1행
+ */
 @Data
 public class RefreshToken {
 
+    private String sessionId;
+
     private String username;
 
     private String refreshToken;
 
+    /**
+     * opaque refresh token의 SHA-256 해시 (JWT 방식이면 null)
+     */
+    private byte[] tokenHash;
+
+    private String loginIp;
+
+    private String userAgent;
+
     private LocalDateTime expiresAt;
 
     private String revokedYn;
@@ -0,0 +1,74 @@
+package jh_platform.auth.model;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임
+ *
+ * JwtTokenProvider.verify()가 토큰을 한 번만 파싱/검증한 결과를 담습니다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 그대로 공유해도 안전합니다.
+ */
+@Getter
+@ToString
+public final class TokenClaims {
+
+    /**
+     * 사용자명 (sub)
+     */
+    private final String subject;
+
+    /**
+     * 발급 시각 (iat)
+     */
+    private final Instant issuedAt;
+
+    /**
+     * 만료 시각 (exp)
+     */
+    private final Instant expiresAt;
+
+    /**
+     * 토큰 고유 ID (jti), 없으면 null
+     */
+    private final String tokenId;
+
+    /**
+     * 세션 ID (sid), 없으면 null
+     */
+    private final String sessionId;
+
+    /**
+     * 권한 코드 목록 (roles, ROLE_ 접두어 제외), 없으면 빈 목록
+     */
+    private final List<String> roles;
+
+    /**
+     * 발급 당시 권한 버전 (rv), 없으면 null
+     */
+    private final Integer roleVersion;
+
+    public TokenClaims(String subject, Instant issuedAt, Instant expiresAt, String tokenId, String sessionId,
+                       List<String> roles, Integer roleVersion) {
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.tokenId = tokenId;
+        this.sessionId = sessionId;
+        this.roles = roles == null ? List.of() : List.copyOf(roles);
+        this.roleVersion = roleVersion;
+    }
+
+    /**
+     * 주어진 시각 기준으로 만료되었는지 확인
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
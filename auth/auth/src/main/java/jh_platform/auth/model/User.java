@@ -2,6 +2,8 @@ package jh_platform.auth.model;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class User {
 
@@ -25,6 +27,11 @@ public class User {
 
     private String lastLoginDt;
 
+    /**
+     * 마지막 로그인 실패 일시 (잠금 해제 시각 계산용, Asia/Seoul)
+     */
+    private LocalDateTime lastFailDt;
+
     private String lastUpdatePass;
 
     private String regDt;
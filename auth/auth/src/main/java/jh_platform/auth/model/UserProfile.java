@@ -0,0 +1,24 @@
+package jh_platform.auth.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시된 사용자 정보와 그 버전(ETag)
+ * 
+ * 캐시에 저장된 User는 여러 요청이 공유하므로 변경하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfile {
+
+    /**
+     * 사용자 정보 (비밀번호 제외)
+     */
+    private final User user;
+
+    /**
+     * 사용자 정보 내용으로 만든 strong ETag (따옴표 제외)
+     */
+    private final String etag;
+}
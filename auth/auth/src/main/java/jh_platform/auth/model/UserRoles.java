@@ -0,0 +1,25 @@
+package jh_platform.auth.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자에게 부여된 권한 목록과 권한 버전 (TB_USER.ROLE_VER)
+ * 
+ * 권한 버전은 TB_USER_ROLE이 바뀔 때마다 1씩 증가하며,
+ * access token의 rv 클레임과 비교해 권한이 바뀌기 전에 발급된 토큰을 걸러냅니다.
+ */
+@Data
+public class UserRoles {
+
+    private String username;
+
+    private int roleVersion;
+
+    /**
+     * 권한 코드 목록 (ex: ROLE_ADMIN, ROLE_USER)
+     */
+    private List<String> roles = new ArrayList<>();
+}
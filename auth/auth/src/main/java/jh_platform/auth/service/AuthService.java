@@ -1,23 +1,31 @@
 package jh_platform.auth.service;
 
+import jh_platform.auth.config.AuthMetrics;
 import jh_platform.auth.config.JwtTokenProvider;
+import jh_platform.auth.config.TokenRevocationList;
+import jh_platform.auth.exception.AccountLockedException;
 import jh_platform.auth.exception.InvalidPasswordException;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.exception.ServiceBusyException;
 import jh_platform.auth.exception.UserNotFoundException;
 import jh_platform.auth.exception.UsernameAlreadyExistsException;
-import jh_platform.auth.mapper.RefreshTokenMapper;
 import jh_platform.auth.mapper.UserMapper;
+import jh_platform.auth.model.ClientInfo;
 import jh_platform.auth.model.LoginTokens;
 import jh_platform.auth.model.RefreshToken;
+import jh_platform.auth.model.TokenClaims;
 import jh_platform.auth.model.User;
+import jh_platform.auth.model.UserProfile;
+import jh_platform.auth.model.UserRoles;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -26,106 +34,189 @@ public class AuthService {
 
     private final UserMapper userMapper;
 
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
 
     private final JwtTokenProvider jwtTokenProvider;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+
+    private final OpaqueTokenGenerator opaqueTokenGenerator;
+
+    private final LoginHistoryWriter loginHistoryWriter;
+
+    private final LoginActivityTracker loginActivityTracker;
+
+    private final RoleResolver roleResolver;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final AuthMetrics authMetrics;
+
+    private final UserProfileStore userProfileStore;
 
     @Value("${spring.jwt.refresh-validation-millis}")
     private Long refreshValidityInMs;
 
+    /**
+     * 발급할 refresh token 방식
+     * - jwt: 서명된 JWT (DB에 원문 저장)
+     * - opaque: 난수 핸들 (DB에 SHA-256 해시만 저장)
+     * 
+     * 재발급/로그아웃 시에는 쿠키 값의 형식으로 방식을 판별하므로, 전환 중에도 기존 토큰을 그대로 사용할 수 있습니다.
+     */
+    @Value("${spring.jwt.refresh-token-type:jwt}")
+    private String refreshTokenType;
+
     /**
      * 회원가입 서비스
      * 
      * @param user 회원가입할 사용자 정보
      * @throws UsernameAlreadyExistsException 사용자명이 이미 존재하는 경우
+     * @throws ServiceBusyException 비밀번호 해시 대기열이 밀린 경우
      */
     public void signup(User user) {
+        authMetrics.flow("signup", () -> {
+            doSignup(user);
+            return null;
+        });
+    }
+
+    private void doSignup(User user) {
         // 사용자명 중복 체크
-        User existingUser = userMapper.findByUsername(user.getUsername());
+        User existingUser = authMetrics.phase("signup", "lookup", () -> userMapper.findByUsername(user.getUsername()));
         if (existingUser != null) {
             throw new UsernameAlreadyExistsException();
         }
         
         // 비밀번호 암호화 후 저장
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userMapper.insertUser(user);
+        String encodedPassword = authMetrics.phase("signup", "password", () -> passwordHasher.encode(user.getPassword()));
+        user.setPassword(encodedPassword);
+        authMetrics.phase("signup", "insert", () -> userMapper.insertUser(user));
+        userProfileStore.evict(user.getUsername());
     }
 
     /**
      * 로그인 서비스
      * 
+     * 로그인할 때마다 기기별 세션(TB_USER_REFRESH_TOKEN 행)을 새로 추가하므로,
+     * 다른 기기의 refresh token은 그대로 유효합니다.
+     * 
      * @param username 사용자명
      * @param password 비밀번호
+     * @param clientInfo 로그인한 클라이언트 정보 (세션에 기록)
      * @return JWT 토큰
      * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      * @throws InvalidPasswordException 비밀번호가 일치하지 않는 경우
+     * @throws AccountLockedException 로그인 실패 횟수를 초과하여 잠긴 경우
+     * @throws ServiceBusyException 비밀번호 해시 대기열이 밀린 경우
      */
-    public LoginTokens login(String username, String password) {
+    public LoginTokens login(String username, String password, ClientInfo clientInfo) {
+        return authMetrics.flow("login", () -> doLogin(username, password, clientInfo));
+    }
+
+    private LoginTokens doLogin(String username, String password, ClientInfo clientInfo) {
         // 로그인 검증용 쿼리 사용 (비밀번호 포함)
-        User user = userMapper.findByUsernameForLogin(username);
+        User user = authMetrics.phase("login", "lookup", () -> userMapper.findByUsernameForLogin(username));
 
         // 사용자 존재 여부 확인
         if (user == null) {
+            loginHistoryWriter.recordFailure(null, username, clientInfo, "USER_NOT_FOUND");
             throw new UserNotFoundException();
         }
 
+        // 잠금 여부 확인 (메모리 값 기준, 잠겨 있으면 비밀번호 해시 비교도 하지 않음)
+        if (loginActivityTracker.isLocked(user)) {
+            loginHistoryWriter.recordFailure(user.getUserId(), username, clientInfo, "LOCKED");
+            throw new AccountLockedException();
+        }
+
         // 비밀번호 일치 여부 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        boolean matched = authMetrics.phase("login", "password", () -> passwordHasher.matches(password, user.getPassword()));
+        if (!matched) {
+            loginActivityTracker.recordFailure(user);
+            loginHistoryWriter.recordFailure(user.getUserId(), username, clientInfo, "INVALID_PASSWORD");
             throw new InvalidPasswordException();
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(username);
-        String refreshToken = jwtTokenProvider.createRefreshToken(username);
+        // 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 재암호화
+        rehashIfNeeded(username, password, user.getPassword());
+
+        String sessionId = UUID.randomUUID().toString();
+        UserRoles userRoles = authMetrics.phase("login", "roles", () -> roleResolver.resolve(username));
 
         Instant expireInstant = Instant.now().plusMillis(refreshValidityInMs);
 
         RefreshToken refreshTokenEntity = new RefreshToken();
-        refreshTokenEntity.setRefreshToken(refreshToken);
+        LoginTokens loginTokens = authMetrics.phase("login", "token", () -> {
+            LoginTokens tokens = new LoginTokens();
+            tokens.setAccessToken(jwtTokenProvider.createAccessToken(username, sessionId, userRoles));
+            if ("opaque".equalsIgnoreCase(refreshTokenType)) {
+                // 난수 핸들 발급, DB에는 해시만 저장
+                tokens.setRefreshToken(opaqueTokenGenerator.generate());
+                refreshTokenEntity.setTokenHash(opaqueTokenGenerator.hash(tokens.getRefreshToken()));
+            } else {
+                tokens.setRefreshToken(jwtTokenProvider.createRefreshToken(username, sessionId));
+                refreshTokenEntity.setRefreshToken(tokens.getRefreshToken());
+            }
+            return tokens;
+        });
+        refreshTokenEntity.setSessionId(sessionId);
         refreshTokenEntity.setUsername(username);
+        refreshTokenEntity.setLoginIp(clientInfo.getIp());
+        refreshTokenEntity.setUserAgent(clientInfo.getUserAgent());
         refreshTokenEntity.setRevokedYn("N");
         refreshTokenEntity.setExpiresAt(LocalDateTime.ofInstant(expireInstant, ZoneId.of("Asia/Seoul")));
 
-        refreshTokenMapper.upsertRefreshToken(refreshTokenEntity);
+        authMetrics.phase("login", "session", () -> refreshTokenStore.insert(refreshTokenEntity));
 
+        // 실패 횟수 초기화/마지막 로그인 일시는 메모리에만 반영 (TB_USER는 주기적으로 일괄 UPDATE)
+        loginActivityTracker.recordSuccess(user);
 
-        LoginTokens loginTokens = new LoginTokens();
-        loginTokens.setAccessToken(accessToken);
-        loginTokens.setRefreshToken(refreshToken);
+        // 로그인 이력은 대기열에 넣기만 하고 writer 스레드가 묶어서 저장
+        loginHistoryWriter.recordSuccess(user.getUserId(), username, clientInfo);
 
         // JWT 토큰 및 반환
         return loginTokens;
     }
 
+    /**
+     * 로그인에 성공한 평문 비밀번호로 해시를 다시 생성하여 저장합니다.
+     * 
+     * 실패해도 로그인은 계속 진행하며, 다음 로그인 때 다시 시도합니다.
+     */
+    private void rehashIfNeeded(String username, String rawPassword, String encodedPassword) {
+        if (!passwordHasher.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            authMetrics.phase("login", "rehash",
+                    () -> userMapper.updatePasswordHash(username, passwordHasher.encode(rawPassword)));
+            log.info("비밀번호 해시 재암호화: username={}", username);
+        } catch (Exception e) {
+            log.warn("비밀번호 해시 재암호화 실패: username={}", username, e);
+        }
+    }
+
     /**
      * Refresh Token 검증 및 Access Token 재발급
      * 
      * @param refreshToken 쿠키에서 받은 refresh token
      * @return 새로 발급된 access token
-     * @throws InvalidPasswordException refresh token이 유효하지 않은 경우
+     * @throws InvalidTokenException refresh token의 서명/만료 검증에 실패한 경우
+     * @throws InvalidPasswordException DB에 저장된 refresh token과 일치하지 않는 경우
      */
     public String refreshAccessToken(String refreshToken) {
-        // 1. JWT 토큰 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new InvalidPasswordException(); // 또는 별도 예외 생성 가능
-        }
-
-        // 2. 토큰에서 username 추출
-        String username = jwtTokenProvider.getUsername(refreshToken);
+        return authMetrics.flow("refresh", () -> doRefreshAccessToken(refreshToken));
+    }
 
-        // 3. DB에서 저장된 refresh token 조회
-        RefreshToken storedToken = refreshTokenMapper.findByUsername(username);
+    private String doRefreshAccessToken(String refreshToken) {
+        // 1~4. 저장된 refresh token 조회 및 일치 여부 확인
+        RefreshToken storedToken = authMetrics.phase("refresh", "lookup", () -> findStoredToken(refreshToken));
         
         if (storedToken == null) {
             throw new InvalidPasswordException();
         }
 
-        // 4. DB의 refresh token과 쿠키의 refresh token 일치 여부 확인
-        if (!refreshToken.equals(storedToken.getRefreshToken())) {
-            throw new InvalidPasswordException();
-        }
-
         // 5. 토큰이 폐기되었는지 확인
         if ("Y".equals(storedToken.getRevokedYn())) {
             throw new InvalidPasswordException();
@@ -136,22 +227,79 @@ public class AuthService {
             throw new InvalidPasswordException();
         }
 
-        // 7. 새 access token 발급
-        return jwtTokenProvider.createAccessToken(username);
+        // 7. 새 access token 발급 (같은 세션, 권한은 발급 시점 기준으로 다시 조회)
+        UserRoles userRoles = authMetrics.phase("refresh", "roles", () -> roleResolver.resolve(storedToken.getUsername()));
+        return authMetrics.phase("refresh", "token",
+                () -> jwtTokenProvider.createAccessToken(storedToken.getUsername(), storedToken.getSessionId(), userRoles));
     }
 
     /**
-     * 로그아웃 시 Refresh Token 삭제
+     * refresh token에 해당하는 세션 조회 (로그아웃용)
+     * 
+     * @param refreshToken 쿠키에서 받은 refresh token
+     * @return 세션 레코드, 토큰이 유효하지 않거나 저장된 세션이 없으면 null
+     */
+    public RefreshToken findSessionByRefreshToken(String refreshToken) {
+        try {
+            return findStoredToken(refreshToken);
+        } catch (InvalidTokenException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 쿠키의 refresh token과 일치하는 세션 레코드 조회
+     * 
+     * - opaque: 해시 1회 + TOKEN_HASH 인덱스 조회 (JWT 파싱/서명 검증 없음)
+     * - jwt: 서명/만료/토큰 종류 검증 후 sid로 기본키 조회하고 저장된 원문과 비교
+     * 
+     * @return 일치하는 레코드, 없으면 null
+     * @throws InvalidTokenException JWT 서명/만료 검증에 실패한 경우
+     */
+    private RefreshToken findStoredToken(String refreshToken) {
+        if (opaqueTokenGenerator.isOpaque(refreshToken)) {
+            return refreshTokenStore.findByTokenHash(opaqueTokenGenerator.hash(refreshToken));
+        }
+
+        TokenClaims claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        if (claims.getSessionId() == null) {
+            return null;
+        }
+        RefreshToken storedToken = refreshTokenStore.findBySessionId(claims.getSessionId());
+        if (storedToken == null || !refreshToken.equals(storedToken.getRefreshToken())) {
+            return null;
+        }
+        return storedToken;
+    }
+
+    /**
+     * 로그아웃 시 세션 삭제 및 access token 폐기
+     * 
+     * 세션 삭제로 refresh token은 바로 쓸 수 없게 되고,
+     * 이미 발급된 access token은 TokenRevocationList에 올려 exp 전이라도 거부합니다.
      * 
      * @param username 사용자명
+     * @param sessionId 현재 기기의 세션 ID (null이면 모든 세션 삭제)
+     * @param allSessions true면 모든 기기에서 로그아웃
+     * @param accessTokenClaims 현재 요청의 access token 클레임, 없으면 null
      */
-    public void logout(String username) {
-        log.info("로그아웃: 사용자 {}의 refreshToken 삭제 시도", username);
+    public void logout(String username, String sessionId, boolean allSessions, TokenClaims accessTokenClaims) {
+        if (allSessions || sessionId == null) {
+            tokenRevocationList.revokeAll(username);
+        } else if (accessTokenClaims != null && username.equals(accessTokenClaims.getSubject())) {
+            tokenRevocationList.revoke(accessTokenClaims);
+        }
+
         try {
-            refreshTokenMapper.deleteByUsername(username);
-            log.info("로그아웃: 사용자 {}의 refreshToken 삭제 완료", username);
+            if (allSessions || sessionId == null) {
+                log.info("로그아웃: 사용자 {}의 모든 세션 삭제", username);
+                refreshTokenStore.deleteByUsername(username);
+            } else {
+                log.info("로그아웃: 사용자 {}의 세션 {} 삭제", username, sessionId);
+                refreshTokenStore.deleteBySessionId(sessionId);
+            }
         } catch (Exception e) {
-            log.error("로그아웃: 사용자 {}의 refreshToken 삭제 실패", username, e);
+            log.error("로그아웃: 사용자 {}의 세션 삭제 실패", username, e);
             throw e;
         }
     }
@@ -164,15 +312,25 @@ public class AuthService {
      * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
     public User getUserInfo(String username) {
-        User user = userMapper.findByUsername(username);
-        
-        if (user == null) {
+        return getUserProfile(username).getUser();
+    }
+
+    /**
+     * 사용자 정보와 ETag 조회 (캐시 -> 없으면 DB 조회 후 캐시에 저장)
+     * 
+     * @param username 사용자명
+     * @return 사용자 정보(비밀번호 제외)와 ETag
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    public UserProfile getUserProfile(String username) {
+        return authMetrics.flow("user_info", () -> doGetUserProfile(username));
+    }
+
+    private UserProfile doGetUserProfile(String username) {
+        UserProfile profile = userProfileStore.find(username);
+        if (profile == null) {
             throw new UserNotFoundException();
         }
-        
-        // 비밀번호는 제외하고 반환 (보안)
-        user.setPassword(null);
-        
-        return user;
+        return profile;
     }
 }
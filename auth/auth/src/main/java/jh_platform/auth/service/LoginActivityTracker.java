@@ -0,0 +1,256 @@
+package jh_platform.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.SecurityProperties;
+import jh_platform.auth.mapper.UserMapper;
+import jh_platform.auth.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 실패 횟수(LOGIN_FAIL_CNT)와 마지막 로그인 일시(LAST_LOGIN_DT) 누적기
+ * 
+ * 로그인마다 TB_USER를 UPDATE하면 같은 사용자에게 요청이 몰릴 때(credential stuffing)
+ * 한 행의 락을 기다리며 로그인이 줄을 서게 됩니다.
+ * 로그인 시에는 메모리 값만 바꾸고, flush-interval-millis마다 바뀐 사용자만 모아
+ * MyBatis BATCH 실행기로 한 번에 UPDATE합니다.
+ * 
+ * - 잠금 여부는 메모리 값 기준 (DB 반영 지연과 무관), 메모리에 없는 사용자는 로그인 조회 결과로만 판단하고 기록하지 않음
+ * - 메모리에 없는 사용자의 첫 실패/성공은 primary에서 읽은 LOGIN_FAIL_CNT, LAST_FAIL_DT로 초기화하므로
+ *   재기동 후에도 원래 잠금 해제 시각을 유지 (복제본 지연으로 이전 실패 횟수를 읽지 않음)
+ * - 잠금 시간이 지난 뒤의 실패는 1회째부터 다시 셈
+ * - DB 반영이 끝난 사용자는 메모리에서 제거하므로, 메모리에는 최근 flush 주기 안에 바뀐 사용자만 남음
+ *   (존재하지 않는 사용자명은 기록하지 않으므로 다른 사용자명으로 실패를 쏟아내도 늘어나지 않음)
+ * - 인스턴스별 누적이므로, 여러 인스턴스에서는 마지막으로 반영한 인스턴스의 값이 남음
+ */
+@Slf4j
+@Component
+public class LoginActivityTracker {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    private final UserMapper userMapper;
+
+    private final SecurityProperties.Lockout lockout;
+
+    private final ConcurrentHashMap<String, Activity> activities = new ConcurrentHashMap<>();
+
+    private final LongAdder flushedCount = new LongAdder();
+
+    private final LongAdder flushFailedCount = new LongAdder();
+
+    public LoginActivityTracker(SqlSessionFactory sqlSessionFactory, UserMapper userMapper,
+                                SecurityProperties securityProperties) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.userMapper = userMapper;
+        this.lockout = securityProperties.getLockout();
+    }
+
+    /**
+     * 계정이 잠겨 있는지 확인 (비밀번호 해시 비교 전에 호출)
+     * 
+     * 메모리에 없는 사용자는 조회한 행으로만 판단하고 메모리에 넣지 않습니다.
+     */
+    public boolean isLocked(User user) {
+        if (lockout.getMaxFailures() <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Activity activity = activities.get(user.getUsername());
+        if (activity == null) {
+            int failCount = user.getLoginFailCnt() != null ? user.getLoginFailCnt() : 0;
+            return isLocked(failCount, toMillis(user.getLastFailDt()), now);
+        }
+        synchronized (activity) {
+            return isLocked(activity.failCount, activity.lastFailureMillis, now);
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (실패 횟수 +1, 잠금 시간이 지났으면 1부터 다시 셈)
+     */
+    public void recordFailure(User user) {
+        Activity seed = seed(user);
+        activities.compute(user.getUsername(), (username, activity) -> {
+            if (activity == null) {
+                activity = seed;
+            }
+            synchronized (activity) {
+                long now = System.currentTimeMillis();
+                if (activity.failCount >= lockout.getMaxFailures()
+                        && !isLocked(activity.failCount, activity.lastFailureMillis, now)) {
+                    activity.failCount = 0;
+                }
+                activity.failCount++;
+                activity.lastFailureMillis = now;
+                activity.lastFailDt = LocalDateTime.now(SEOUL);
+                activity.dirty = true;
+            }
+            return activity;
+        });
+    }
+
+    /**
+     * 로그인 성공 기록 (실패 횟수 초기화, 마지막 로그인 일시 갱신)
+     */
+    public void recordSuccess(User user) {
+        activities.compute(user.getUsername(), (username, activity) -> {
+            if (activity == null) {
+                // 실패 횟수를 0으로 덮어쓰므로 primary에서 다시 읽을 필요 없음
+                activity = new Activity(user);
+            }
+            synchronized (activity) {
+                activity.failCount = 0;
+                activity.lastLoginDt = LocalDateTime.now(SEOUL);
+                activity.dirty = true;
+            }
+            return activity;
+        });
+    }
+
+    /**
+     * 메모리에 없는 사용자의 초기 상태 (primary 조회, compute 밖에서 읽어 맵 락을 잡은 채 DB를 기다리지 않음)
+     * 
+     * 이미 메모리에 있으면 쓰이지 않으므로 조회하지 않고, 행이 없으면 로그인 조회 결과를 사용합니다.
+     */
+    private Activity seed(User user) {
+        if (activities.containsKey(user.getUsername())) {
+            return new Activity(user);
+        }
+        User current = userMapper.findLoginActivity(user.getUsername());
+        return new Activity(current != null ? current : user);
+    }
+
+    /**
+     * 실패 횟수가 허용 횟수 이상이고 마지막 실패 후 잠금 시간이 지나지 않았으면 잠김
+     * (마지막 실패 시각을 모르면 잠그지 않음)
+     */
+    private boolean isLocked(int failCount, long lastFailureMillis, long now) {
+        return failCount >= lockout.getMaxFailures()
+                && lastFailureMillis != 0
+                && now - lastFailureMillis < lockout.getLockDurationMillis();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(SEOUL).toInstant().toEpochMilli() : 0;
+    }
+
+    /**
+     * 바뀐 사용자만 모아서 TB_USER에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${security.lockout.flush-interval-millis:5000}")
+    public void flush() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        activities.forEach((username, activity) -> {
+            synchronized (activity) {
+                if (activity.dirty) {
+                    activity.dirty = false;
+                    snapshots.add(new Snapshot(username, activity.failCount, activity.lastFailDt, activity.lastLoginDt));
+                }
+            }
+        });
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            UserMapper userMapper = sqlSession.getMapper(UserMapper.class);
+            for (Snapshot snapshot : snapshots) {
+                userMapper.updateLoginActivity(snapshot.username(), snapshot.failCount(),
+                        snapshot.lastFailDt(), snapshot.lastLoginDt());
+            }
+            sqlSession.flushStatements();
+            sqlSession.commit();
+            flushedCount.add(snapshots.size());
+        } catch (Exception e) {
+            flushFailedCount.add(snapshots.size());
+            log.error("로그인 활동 반영 실패: {}건 (다음 주기에 재시도)", snapshots.size(), e);
+            for (Snapshot snapshot : snapshots) {
+                Activity activity = activities.get(snapshot.username());
+                if (activity != null) {
+                    synchronized (activity) {
+                        activity.dirty = true;
+                    }
+                }
+            }
+            return;
+        }
+
+        // 반영이 끝나고 그 사이 바뀌지 않은 사용자는 메모리에서 제거 (다음 로그인 때 DB의 실패 횟수/실패 일시로 다시 초기화)
+        for (Snapshot snapshot : snapshots) {
+            activities.computeIfPresent(snapshot.username(), (username, activity) -> {
+                synchronized (activity) {
+                    return activity.dirty ? activity : null;
+                }
+            });
+        }
+    }
+
+    /**
+     * 메모리에 있는 사용자 수
+     */
+    public int getTrackedUserCount() {
+        return activities.size();
+    }
+
+    /**
+     * TB_USER에 반영한 누적 건수
+     */
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    /**
+     * 반영에 실패한 누적 건수
+     */
+    public long getFlushFailedCount() {
+        return flushFailedCount.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 사용자별 누적 상태 (변경은 인스턴스 락 안에서만)
+     */
+    private static final class Activity {
+
+        private int failCount;
+
+        /**
+         * 마지막 실패 시각 (0이면 알 수 없음 -> 잠금 안 함)
+         */
+        private long lastFailureMillis;
+
+        private LocalDateTime lastFailDt;
+
+        private LocalDateTime lastLoginDt;
+
+        private boolean dirty;
+
+        private Activity(User user) {
+            this.failCount = user.getLoginFailCnt() != null ? user.getLoginFailCnt() : 0;
+            // 저장된 마지막 실패 일시부터 잠금 시간 계산 (LAST_FAIL_DT가 없던 행은 잠금 시간이 지난 것으로 보고 다음 실패부터 다시 셈)
+            this.lastFailDt = user.getLastFailDt();
+            this.lastFailureMillis = toMillis(lastFailDt);
+        }
+    }
+
+    private record Snapshot(String username, int failCount, LocalDateTime lastFailDt, LocalDateTime lastLoginDt) {
+    }
+}
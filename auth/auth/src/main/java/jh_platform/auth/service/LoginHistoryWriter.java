@@ -0,0 +1,274 @@
+package jh_platform.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.LoginHistoryProperties;
+import jh_platform.auth.mapper.LoginHistoryMapper;
+import jh_platform.auth.model.ClientInfo;
+import jh_platform.auth.model.LoginHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 이력 비동기 기록기
+ * 
+ * 로그인 요청 스레드는 이력을 메모리 대기열에 넣기만 하고 바로 반환합니다.
+ * 별도의 writer 스레드가 대기열을 비우면서 flush-size건씩 multi-row INSERT로 저장합니다.
+ * 
+ * - flush-size건이 모이거나 flush-interval이 지나면 저장
+ * - 대기열이 가득 차면 overflow-policy에 따라 버리거나(DROP) 잠시 대기(BLOCK)
+ * - 문자열 값은 대기열에 넣기 전에 TB_LOGIN_HISTORY 컬럼 길이에 맞게 자름 (긴 사용자명 하나로 묶음 전체가 실패하지 않도록)
+ * - 묶음 저장에 실패하면 한 건씩 다시 저장하고, 그래도 실패한 건만 버림 (로그인 자체에는 영향 없음)
+ * - 종료 시 남은 이력을 모두 저장한 뒤 종료
+ */
+@Slf4j
+@Component
+public class LoginHistoryWriter {
+
+    public static final String RESULT_SUCCESS = "SUCCESS";
+
+    public static final String RESULT_FAIL = "FAIL";
+
+    /**
+     * TB_LOGIN_HISTORY 컬럼 길이 (VARCHAR 문자 수)
+     */
+    private static final int USERNAME_MAX_LENGTH = 50;
+
+    private static final int DOMAIN_SE_MAX_LENGTH = 50;
+
+    private static final int LOGIN_IP_MAX_LENGTH = 45;
+
+    private static final int FAIL_REASON_MAX_LENGTH = 255;
+
+    private static final int USER_AGENT_MAX_LENGTH = 255;
+
+    private final LoginHistoryMapper loginHistoryMapper;
+
+    private final LoginHistoryProperties properties;
+
+    private final BlockingQueue<LoginHistory> queue;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder writtenCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread writerThread;
+
+    public LoginHistoryWriter(LoginHistoryMapper loginHistoryMapper, LoginHistoryProperties properties) {
+        this.loginHistoryMapper = loginHistoryMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("login-history-writer-");
+        threadFactory.setDaemon(true);
+        running = true;
+        writerThread = threadFactory.newThread(this::drainLoop);
+        writerThread.start();
+        log.info("로그인 이력 기록기: 대기열 {}, flush {}건/{}ms, 초과 시 {}",
+                properties.getQueueCapacity(), properties.getFlushSize(),
+                properties.getFlushInterval().toMillis(), properties.getOverflowPolicy());
+    }
+
+    /**
+     * 로그인 성공 이력 기록
+     */
+    public void recordSuccess(Long userId, String username, ClientInfo clientInfo) {
+        record(userId, username, clientInfo, RESULT_SUCCESS, null);
+    }
+
+    /**
+     * 로그인 실패 이력 기록
+     * 
+     * @param userId 사용자를 찾지 못한 경우 null
+     * @param failReason 실패 사유
+     */
+    public void recordFailure(Long userId, String username, ClientInfo clientInfo, String failReason) {
+        record(userId, username, clientInfo, RESULT_FAIL, failReason);
+    }
+
+    private void record(Long userId, String username, ClientInfo clientInfo, String result, String failReason) {
+        if (!running) {
+            return;
+        }
+
+        LoginHistory history = new LoginHistory();
+        history.setUserId(userId);
+        history.setUsername(truncate(username, USERNAME_MAX_LENGTH));
+        history.setDomainSe(truncate(properties.getDomainSe(), DOMAIN_SE_MAX_LENGTH));
+        history.setLoginIp(truncate(clientInfo.getIp(), LOGIN_IP_MAX_LENGTH));
+        history.setUserAgent(truncate(clientInfo.getUserAgent(), USER_AGENT_MAX_LENGTH));
+        history.setLoginResult(result);
+        history.setFailReason(truncate(failReason, FAIL_REASON_MAX_LENGTH));
+        history.setLoginDt(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+
+        if (offer(history)) {
+            enqueuedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 컬럼 길이에 맞게 자름 (서로게이트 쌍 중간에서 자르지 않음)
+     */
+    static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+
+    private boolean offer(LoginHistory history) {
+        if (properties.getOverflowPolicy() == LoginHistoryProperties.OverflowPolicy.DROP) {
+            return queue.offer(history);
+        }
+        try {
+            return queue.offer(history, properties.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<LoginHistory> batch = new ArrayList<>(properties.getFlushSize());
+        while (running) {
+            try {
+                // flush-size건이 모이거나 flush-interval이 지날 때까지 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < properties.getFlushSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        break;
+                    }
+                    LoginHistory history = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (history == null) {
+                        break;
+                    }
+                    batch.add(history);
+                    queue.drainTo(batch, properties.getFlushSize() - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            write(batch);
+        }
+        // 종료: 대기열에 남은 이력 모두 저장
+        write(batch);
+        while (queue.drainTo(batch, properties.getFlushSize()) > 0) {
+            write(batch);
+        }
+    }
+
+    private void write(List<LoginHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            loginHistoryMapper.insertBatch(batch);
+            writtenCount.add(batch.size());
+        } catch (Exception e) {
+            log.warn("로그인 이력 묶음 저장 실패: {}건을 한 건씩 다시 저장", batch.size(), e);
+            writeEach(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 한 건씩 저장 (묶음 저장 실패 시, 문제가 있는 행만 버리고 나머지는 저장)
+     */
+    private void writeEach(List<LoginHistory> batch) {
+        int failed = 0;
+        for (LoginHistory history : batch) {
+            try {
+                loginHistoryMapper.insertBatch(List.of(history));
+                writtenCount.increment();
+            } catch (Exception e) {
+                failed++;
+                failedCount.increment();
+                log.debug("로그인 이력 저장 실패: username={}", history.getUsername(), e);
+            }
+        }
+        if (failed > 0) {
+            log.error("로그인 이력 저장 실패: {}건 중 {}건 버림", batch.size(), failed);
+        }
+    }
+
+    /**
+     * 현재 대기열에 쌓인 건수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 대기열에 넣은 건수
+     */
+    public long getEnqueuedCount() {
+        return enqueuedCount.sum();
+    }
+
+    /**
+     * 대기열이 가득 차서 버린 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 저장된 건수
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * 저장에 실패해서 버린 건수
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("로그인 이력 기록기 종료 대기 시간 초과: 대기열 {}건 남음", queue.size());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package jh_platform.auth.service;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * opaque refresh token 생성기
+ * 
+ * JWT 대신 256비트 난수를 Base64URL로 인코딩한 핸들을 발급하고,
+ * DB에는 핸들 원문이 아니라 SHA-256 해시(32바이트 고정 길이)만 저장합니다.
+ * 
+ * - 핸들: 43자 Base64URL 문자열 ('.'이 없으므로 JWT와 구분 가능)
+ * - 조회: 쿠키의 핸들을 해시하여 TOKEN_HASH 인덱스로 바로 조회 (서명 검증/파싱 불필요)
+ */
+@Component
+public class OpaqueTokenGenerator {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * 새 opaque 핸들 생성
+     * 
+     * @return Base64URL 인코딩된 난수 핸들
+     */
+    public String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 핸들의 SHA-256 해시
+     * 
+     * @param token opaque 핸들
+     * @return 32바이트 해시
+     */
+    public byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰 문자열이 opaque 핸들 형식인지 확인 (JWT는 '.'으로 구분된 3부분)
+     * 
+     * @param token 쿠키의 refresh token
+     * @return opaque 핸들이면 true
+     */
+    public boolean isOpaque(String token) {
+        return token.indexOf('.') < 0;
+    }
+}
@@ -0,0 +1,212 @@
+package jh_platform.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.SecurityProperties;
+import jh_platform.auth.exception.ServiceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * BCrypt 같은 느린 해시를 Tomcat 요청 스레드에서 직접 실행하면
+ * 로그인 폭주 시 다른 API(/api/auth/user 등)까지 스레드를 얻지 못합니다.
+ * 해시 연산은 별도 크기의 스레드 풀에서만 실행하고, 대기열이 밀리면 바로 503으로 거절합니다.
+ *
+ * 거절 기준:
+ * - 대기열이 가득 찬 경우
+ * - 현재 대기열 길이로 추정한 대기 시간이 queue-deadline-millis를 넘는 경우
+ * - 실제로 대기한 시간이 queue-deadline-millis를 넘은 경우 (실행 직전에 확인)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long queueDeadlineNanos;
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 해시 1회 실행 시간의 지수 이동 평균 (나노초)
+     */
+    private final AtomicLong averageServiceNanos = new AtomicLong();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, SecurityProperties securityProperties) {
+        SecurityProperties.Hashing hashing = securityProperties.getHashing();
+        int threads = hashing.getThreads() > 0 ? hashing.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.queueDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(hashing.getQueueDeadlineMillis());
+        this.retryAfterSeconds = hashing.getRetryAfterSeconds();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashing.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("비밀번호 해시 실행기: 스레드 {}개, 대기열 {}, 대기 기한 {}ms",
+                threads, hashing.getQueueCapacity(), hashing.getQueueDeadlineMillis());
+    }
+
+    /**
+     * 평문 비밀번호를 해시합니다.
+     *
+     * @throws ServiceBusyException 대기열이 밀려 기한 내에 처리할 수 없는 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시가 일치하는지 확인합니다.
+     *
+     * @throws ServiceBusyException 대기열이 밀려 기한 내에 처리할 수 없는 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시를 재암호화해야 하는지 확인합니다. (문자열 비교만 하므로 호출 스레드에서 실행)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        if (estimatedWaitNanos() > queueDeadlineNanos) {
+            rejectedCount.increment();
+            throw new ServiceBusyException(retryAfterSeconds);
+        }
+
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - enqueuedAt;
+                recordWait(waited);
+                if (waited > queueDeadlineNanos) {
+                    // 이미 기한을 넘겼으면 해시를 계산하지 않고 포기 (호출자는 503 응답)
+                    rejectedCount.increment();
+                    throw new ServiceBusyException(retryAfterSeconds);
+                }
+                try {
+                    return task.call();
+                } finally {
+                    recordService(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServiceBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException(retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 현재 대기열 길이와 평균 실행 시간으로 추정한 대기 시간
+     */
+    private long estimatedWaitNanos() {
+        int queued = executor.getQueue().size();
+        if (queued == 0) {
+            return 0;
+        }
+        return queued * averageServiceNanos.get() / executor.getMaximumPoolSize();
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void recordService(long serviceNanos) {
+        completedCount.increment();
+        // 가중치 1/8의 지수 이동 평균 (첫 측정값은 그대로 사용)
+        averageServiceNanos.updateAndGet(avg -> avg == 0 ? serviceNanos : avg + (serviceNanos - avg) / 8);
+    }
+
+    /**
+     * 현재 대기 중인 해시 요청 수
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 현재 실행 중인 해시 요청 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 완료된 해시 요청 수
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * 503으로 거절된 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 대기열에서 기다린 시간의 합 (나노초)
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * 대기열에서 기다린 최대 시간 (나노초)
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,167 @@
+package jh_platform.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.RefreshTokenReaperProperties;
+import jh_platform.auth.mapper.RefreshTokenMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료된 refresh token(세션) 정리 작업
+ * 
+ * 로그아웃하지 않은 세션은 만료 후에도 TB_USER_REFRESH_TOKEN에 계속 남으므로,
+ * 주기적으로 작은 단위(batch-size)로 나누어 삭제합니다.
+ * (로그아웃한 세션은 그 자리에서 행을 삭제하므로 따로 정리할 폐기 행이 없음)
+ * 
+ * - IX_USER_REFRESH_TOKEN_EXPIRES 인덱스로 EXPIRES_AT이 지난 행 삭제
+ * - 1회 실행당 최대 max-batches-per-run번만 DELETE하고, 남은 행은 다음 실행에서 정리
+ * - 실행 간격에 임의 지연(jitter)을 더해 여러 인스턴스가 같은 시각에 몰리지 않게 함
+ * - 배치 사이 대기 중 인터럽트되면 이번 실행만 중단하고 다음 실행은 예정대로 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenReaper {
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    private final RefreshTokenReaperProperties properties;
+
+    private final TaskScheduler taskScheduler;
+
+    private final LongAdder purgedExpiredCount = new LongAdder();
+
+    private final LongAdder runCount = new LongAdder();
+
+    private final AtomicLong lastRunDurationMillis = new AtomicLong();
+
+    private final AtomicLong lastRunPurgedCount = new AtomicLong();
+
+    private volatile ScheduledFuture<?> nextRun;
+
+    private volatile boolean stopped;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isEnabled()) {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * 정리 작업 1회 실행
+     * 
+     * @return 삭제한 행 수
+     */
+    public int reap() {
+        long start = System.nanoTime();
+        int budget = properties.getMaxBatchesPerRun();
+        int purged = 0;
+        try {
+            // 세션 만료 시각은 Asia/Seoul 기준으로 저장됨 (AuthService.login)
+            LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+            while (budget > 0 && !stopped) {
+                budget--;
+                int deleted = refreshTokenMapper.deleteExpired(now, properties.getBatchSize());
+                purged += deleted;
+                if (deleted < properties.getBatchSize() || !pause()) {
+                    break;
+                }
+            }
+
+            purgedExpiredCount.add(purged);
+            if (purged > 0) {
+                log.info("refresh token 정리: 만료 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            log.error("refresh token 정리 실패", e);
+        } finally {
+            runCount.increment();
+            lastRunPurgedCount.set(purged);
+            lastRunDurationMillis.set((System.nanoTime() - start) / 1_000_000);
+        }
+        return purged;
+    }
+
+    private void scheduleNext() {
+        if (stopped) {
+            return;
+        }
+        long jitterMillis = properties.getJitter().toMillis();
+        long delayMillis = properties.getInterval().toMillis()
+                + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis) : 0);
+        nextRun = taskScheduler.schedule(() -> {
+            try {
+                reap();
+            } finally {
+                scheduleNext();
+            }
+        }, Instant.now().plusMillis(delayMillis));
+    }
+
+    /**
+     * 배치 사이 대기
+     * 
+     * @return 인터럽트되면 false (이번 실행만 중단, 인터럽트 상태는 복원)
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatches().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("refresh token 정리: 인터럽트로 이번 실행 중단");
+            return false;
+        }
+    }
+
+    /**
+     * 누적 삭제된 만료 행 수
+     */
+    public long getPurgedExpiredCount() {
+        return purgedExpiredCount.sum();
+    }
+
+    /**
+     * 실행 횟수
+     */
+    public long getRunCount() {
+        return runCount.sum();
+    }
+
+    /**
+     * 마지막 실행 소요 시간 (밀리초)
+     */
+    public long getLastRunDurationMillis() {
+        return lastRunDurationMillis.get();
+    }
+
+    /**
+     * 마지막 실행에서 삭제한 행 수
+     */
+    public long getLastRunPurgedCount() {
+        return lastRunPurgedCount.get();
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        ScheduledFuture<?> future = nextRun;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package jh_platform.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jh_platform.auth.config.LocalCacheProperties;
+import jh_platform.auth.mapper.RefreshTokenMapper;
+import jh_platform.auth.model.RefreshToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Refresh Token(세션) 저장소 (RefreshTokenMapper + 읽기 캐시)
+ * 
+ * TB_USER_REFRESH_TOKEN 행은 로그인/로그아웃 때만 바뀌므로,
+ * /api/auth/refresh의 조회는 캐시에서 처리하고 DB는 캐시에 없을 때만 조회합니다.
+ * 
+ * - 조회: 캐시 -> 없으면 DB 조회 후 캐시에 저장 (조회 결과가 없으면 저장하지 않음)
+ *   세션 ID 조회(JWT 방식)와 토큰 해시 조회(opaque 방식)를 같은 캐시에 키 접두어로 구분해 보관
+ * - 추가: 새 세션이므로 무효화할 캐시 항목이 없음
+ * - 삭제: DB 반영 후 해당 세션(또는 사용자의 모든 세션) 캐시 항목을 키로 제거 (캐시 전체를 훑지 않음)
+ * - 다른 인스턴스에서 변경된 행은 local-cache.refresh-token.ttl이 지나면 반영
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final String SESSION_ID_KEY = "s:";
+
+    private static final String TOKEN_HASH_KEY = "h:";
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    /**
+     * "s:"+세션 ID 또는 "h:"+토큰 해시 -> 세션 레코드 (비활성화 시 null)
+     */
+    private final Cache<String, RefreshToken> cache;
+
+    public RefreshTokenStore(RefreshTokenMapper refreshTokenMapper, LocalCacheProperties localCacheProperties) {
+        this.refreshTokenMapper = refreshTokenMapper;
+
+        LocalCacheProperties.Spec spec = localCacheProperties.getRefreshToken();
+        this.cache = spec.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * 세션 ID로 세션 레코드 조회
+     * 
+     * @param sessionId 세션 ID
+     * @return 세션 레코드, 없으면 null
+     */
+    public RefreshToken findBySessionId(String sessionId) {
+        if (cache == null) {
+            return refreshTokenMapper.findBySessionId(sessionId);
+        }
+        return cache.get(SESSION_ID_KEY + sessionId, key -> refreshTokenMapper.findBySessionId(sessionId));
+    }
+
+    /**
+     * opaque refresh token 해시로 세션 레코드 조회
+     * 
+     * @param tokenHash 토큰 SHA-256 해시
+     * @return 세션 레코드, 없으면 null
+     */
+    public RefreshToken findByTokenHash(byte[] tokenHash) {
+        if (cache == null) {
+            return refreshTokenMapper.findByTokenHash(tokenHash);
+        }
+        return cache.get(tokenHashKey(tokenHash), k -> refreshTokenMapper.findByTokenHash(tokenHash));
+    }
+
+    /**
+     * 새 세션 저장
+     * 
+     * @param refreshToken 저장할 세션 레코드
+     */
+    public void insert(RefreshToken refreshToken) {
+        refreshTokenMapper.insertSession(refreshToken);
+    }
+
+    /**
+     * 세션 하나 삭제
+     * 
+     * @param sessionId 세션 ID
+     */
+    public void deleteBySessionId(String sessionId) {
+        if (cache == null) {
+            refreshTokenMapper.deleteBySessionId(sessionId);
+            return;
+        }
+
+        // 토큰 해시 키는 세션 ID만으로 알 수 없으므로, 삭제 전에 행을 읽어 해시를 확인 (캐시 -> 없으면 기본키 조회)
+        String sessionKey = SESSION_ID_KEY + sessionId;
+        RefreshToken stored = cache.getIfPresent(sessionKey);
+        if (stored == null) {
+            stored = refreshTokenMapper.findBySessionId(sessionId);
+        }
+
+        refreshTokenMapper.deleteBySessionId(sessionId);
+        cache.invalidate(sessionKey);
+        if (stored != null && stored.getTokenHash() != null) {
+            cache.invalidate(tokenHashKey(stored.getTokenHash()));
+        }
+    }
+
+    /**
+     * 사용자의 모든 세션 삭제
+     * 
+     * @param username 사용자명
+     */
+    public void deleteByUsername(String username) {
+        if (cache == null) {
+            refreshTokenMapper.deleteByUsername(username);
+            return;
+        }
+
+        // 삭제할 세션의 키(세션 ID, 토큰 해시)를 먼저 읽어 두고 그 키만 제거 (IX_USER_REFRESH_TOKEN_USER)
+        List<RefreshToken> sessions = refreshTokenMapper.findSessionKeysByUsername(username);
+        refreshTokenMapper.deleteByUsername(username);
+        for (RefreshToken session : sessions) {
+            cache.invalidate(SESSION_ID_KEY + session.getSessionId());
+            if (session.getTokenHash() != null) {
+                cache.invalidate(tokenHashKey(session.getTokenHash()));
+            }
+        }
+    }
+
+    private static String tokenHashKey(byte[] tokenHash) {
+        return TOKEN_HASH_KEY + Base64.getEncoder().encodeToString(tokenHash);
+    }
+
+    /**
+     * 캐시 적중/실패 통계 (비활성화 시 빈 통계)
+     * 
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+}
@@ -0,0 +1,176 @@
+package jh_platform.auth.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jh_platform.auth.config.LocalCacheProperties;
+import jh_platform.auth.config.RevocationFeed;
+import jh_platform.auth.exception.BaseException;
+import jh_platform.auth.exception.UserNotFoundException;
+import jh_platform.auth.mapper.RoleMapper;
+import jh_platform.auth.model.TokenClaims;
+import jh_platform.auth.model.UserRoles;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 권한 조회기 (RoleMapper + 읽기 캐시)
+ * 
+ * 권한은 access token 발급 시(로그인, 재발급)에만 조회하여 토큰의 roles/rv 클레임에 담고,
+ * 요청마다 DB를 조회하지 않습니다.
+ * 
+ * - 조회: 캐시 -> 없으면 TB_USER_ROLE/TB_ROLE 조회 후 캐시에 저장
+ * - 권한 변경: replaceRoles()(관리자 API)가 TB_USER_ROLE을 바꾸고 grantsChanged()로 ROLE_VER를 올린 뒤,
+ *   트랜잭션이 커밋되면 캐시를 새 값으로 채움 (롤백되면 캐시는 그대로)
+ * - 요청 처리 중(JwtAuthenticationFilter)에는 isRoleVersionStale()로 캐시에 있는 버전과만 비교하고 DB를 조회하지 않음
+ *   캐시에 없으면 이번 요청은 통과시키고 백그라운드에서 채움
+ * - 캐시 항목은 local-cache.role.ttl마다 백그라운드에서 다시 읽고(refreshAfterWrite), 그동안 읽히지 않은 항목은 ttl의 2배가 지나면 제거
+ * - 다른 인스턴스에서 변경된 권한은 이 인스턴스의 항목이 다시 읽힐 때까지, 즉 최대 local-cache.role.ttl(+ 조회 시간) 동안 반영되지 않음
+ * - 변경된 권한 버전은 커밋 후 RevocationFeed에 기록해 게이트웨이도 이전 토큰을 거부하게 함
+ */
+@Component
+public class RoleResolver {
+
+    private final RoleMapper roleMapper;
+
+    private final RevocationFeed revocationFeed;
+
+    /**
+     * 사용자명 -> 권한 목록/버전 (비활성화 시 null)
+     */
+    private final LoadingCache<String, UserRoles> cache;
+
+    public RoleResolver(RoleMapper roleMapper, RevocationFeed revocationFeed, LocalCacheProperties localCacheProperties) {
+        this.roleMapper = roleMapper;
+        this.revocationFeed = revocationFeed;
+
+        LocalCacheProperties.Spec spec = localCacheProperties.getRole();
+        this.cache = spec.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .refreshAfterWrite(spec.getTtl())
+                        .expireAfterWrite(spec.getTtl().multipliedBy(2))
+                        .recordStats()
+                        .build(this::load)
+                : null;
+    }
+
+    /**
+     * 사용자 권한 조회 (access token 발급용)
+     * 
+     * @param username 사용자명
+     * @return 권한 목록/버전, 사용자가 없으면 권한이 없는 빈 값
+     */
+    public UserRoles resolve(String username) {
+        if (cache == null) {
+            return load(username);
+        }
+        return cache.get(username);
+    }
+
+    /**
+     * 토큰 발급 이후 권한이 바뀌었는지 확인 (캐시에 있는 권한 버전과 비교, DB 조회 없음)
+     * 
+     * 캐시에 없으면 이번 요청은 통과시키고 백그라운드에서 채우므로, 다음 요청부터 비교합니다.
+     * 캐시를 끈 경우(local-cache.role.enabled=false)에는 비교하지 않습니다.
+     * 
+     * @param claims 검증된 access token 클레임
+     * @return rv 클레임이 캐시된 권한 버전보다 낮거나, 사용자가 삭제된 것으로 캐시돼 있으면 true
+     */
+    public boolean isRoleVersionStale(TokenClaims claims) {
+        if (claims.getRoleVersion() == null || cache == null) {
+            return false;
+        }
+        UserRoles userRoles = cache.getIfPresent(claims.getSubject());
+        if (userRoles == null) {
+            cache.refresh(claims.getSubject());
+            return false;
+        }
+        return userRoles.getUsername() == null || userRoles.getRoleVersion() > claims.getRoleVersion();
+    }
+
+    /**
+     * 사용자의 권한을 주어진 권한 코드 목록으로 바꿉니다. (관리자 API)
+     * 
+     * 권한 버전도 함께 올리므로, 이전에 발급된 access token은 다음 요청부터 거부되어 /refresh로 재발급됩니다.
+     * 
+     * @param username 사용자명
+     * @param roleCodes 부여할 권한 코드 목록 (ex: ROLE_ADMIN), 비어 있으면 모든 권한 회수
+     * @return 변경 후 권한 목록/버전
+     * @throws UserNotFoundException 사용자가 없는 경우
+     * @throws BaseException 사용하지 않거나 존재하지 않는 권한 코드가 있는 경우 (변경 없이 롤백)
+     */
+    @Transactional
+    public UserRoles replaceRoles(String username, List<String> roleCodes) {
+        if (roleMapper.findUserRoles(username) == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        Set<String> codes = new LinkedHashSet<>(roleCodes);
+
+        roleMapper.deleteUserRoles(username);
+        if (!codes.isEmpty() && roleMapper.insertUserRoles(username, codes) != codes.size()) {
+            throw new BaseException("존재하지 않거나 사용하지 않는 권한 코드가 있습니다.");
+        }
+        grantsChanged(username);
+        // 커밋 전이므로 캐시를 거치지 않고 조회 (캐시는 커밋 후 grantsChanged()의 동기화에서 채움)
+        return load(username);
+    }
+
+    /**
+     * 사용자의 권한(TB_USER_ROLE)이 바뀐 뒤 호출
+     * 
+     * 권한 버전을 올리고 캐시를 새 값으로 채워, 이전 버전으로 발급된 access token이 재발급되도록 합니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에 채우므로, 롤백된 버전이 캐시/RevocationFeed에 남지 않습니다.
+     * 
+     * @param username 사용자명
+     */
+    public void grantsChanged(String username) {
+        roleMapper.increaseRoleVersion(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(username);
+                }
+            });
+        } else {
+            publish(username);
+        }
+    }
+
+    /**
+     * 커밋된 권한 버전으로 캐시를 채우고 RevocationFeed에 기록
+     */
+    private void publish(String username) {
+        UserRoles userRoles = load(username);
+        if (cache != null) {
+            cache.put(username, userRoles);
+        }
+        if (userRoles.getUsername() != null) {
+            revocationFeed.roleVersionChanged(username, userRoles.getRoleVersion());
+        }
+    }
+
+    /**
+     * 사용자가 없으면 권한이 없는 새 빈 값 (username이 null, 호출하는 쪽끼리 인스턴스를 공유하지 않음)
+     */
+    private UserRoles load(String username) {
+        UserRoles userRoles = roleMapper.findUserRoles(username);
+        return userRoles != null ? userRoles : new UserRoles();
+    }
+
+    /**
+     * 캐시 적중/실패 통계 (비활성화 시 빈 통계)
+     * 
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+}
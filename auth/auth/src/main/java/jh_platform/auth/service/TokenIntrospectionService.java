@@ -0,0 +1,153 @@
+package jh_platform.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.SecurityProperties;
+import jh_platform.auth.config.TokenRevocationList;
+import jh_platform.auth.config.VerifiedTokenCache;
+import jh_platform.auth.dto.TokenIntrospection;
+import jh_platform.auth.exception.BaseException;
+import jh_platform.auth.exception.InvalidTokenException;
+import jh_platform.auth.model.TokenClaims;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 일괄 확인 서비스 (다른 서비스에서 portal access token 검증용)
+ * 
+ * JwtAuthenticationFilter와 같은 순서(서명/만료 -> 폐기 -> 권한 버전)로 확인하며,
+ * 토큰이 parallel-threshold개 이상이면 parallel-threshold개씩 나눠 전용 스레드 풀에서 병렬로 검증합니다.
+ * (공용 ForkJoinPool을 쓰지 않으므로 다른 parallelStream 사용처와 스레드를 다투지 않고,
+ *  대기열이 차면 요청 스레드가 직접 검증하므로 동시 호출이 많아도 스레드/대기열이 늘어나지 않음)
+ * 이미 검증한 토큰은 VerifiedTokenCache에서 바로 가져오므로, 같은 사용자를 반복 확인해도 서명 검증은 한 번입니다.
+ */
+@Service
+public class TokenIntrospectionService {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final RoleResolver roleResolver;
+
+    private final SecurityProperties.Introspection properties;
+
+    private final ThreadPoolExecutor executor;
+
+    public TokenIntrospectionService(VerifiedTokenCache verifiedTokenCache,
+                                     TokenRevocationList tokenRevocationList,
+                                     RoleResolver roleResolver,
+                                     SecurityProperties securityProperties) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.roleResolver = roleResolver;
+        this.properties = securityProperties.getIntrospection();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("token-introspection-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 토큰 목록 확인
+     * 
+     * @param tokens access token 목록
+     * @return 요청과 같은 순서의 확인 결과
+     * @throws BaseException 토큰 수가 max-tokens를 넘는 경우
+     */
+    public List<TokenIntrospection> introspect(List<String> tokens) {
+        if (tokens.size() > properties.getMaxTokens()) {
+            throw new BaseException("한 번에 확인할 수 있는 토큰은 최대 " + properties.getMaxTokens() + "개입니다.");
+        }
+
+        int sliceSize = properties.getParallelThreshold();
+        if (tokens.size() < sliceSize) {
+            return introspectAll(tokens);
+        }
+
+        List<Future<List<TokenIntrospection>>> futures = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += sliceSize) {
+            List<String> slice = tokens.subList(from, Math.min(from + sliceSize, tokens.size()));
+            futures.add(executor.submit(() -> introspectAll(slice)));
+        }
+
+        List<TokenIntrospection> results = new ArrayList<>(tokens.size());
+        for (Future<List<TokenIntrospection>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("토큰 확인이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("토큰 확인 실패", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private List<TokenIntrospection> introspectAll(List<String> tokens) {
+        List<TokenIntrospection> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(introspect(token));
+        }
+        return results;
+    }
+
+    private TokenIntrospection introspect(String token) {
+        TokenClaims claims;
+        try {
+            claims = verifiedTokenCache.verify(token);
+        } catch (InvalidTokenException e) {
+            return inactive(e.getReason(), null, false);
+        }
+
+        if (tokenRevocationList.isRevoked(claims)) {
+            return inactive(InvalidTokenException.Reason.REVOKED, claims, true);
+        }
+        if (roleResolver.isRoleVersionStale(claims)) {
+            return inactive(InvalidTokenException.Reason.ROLES_CHANGED, claims, false);
+        }
+
+        long remainingSeconds = claims.getExpiresAt() == null
+                ? 0
+                : Math.max(0, Duration.between(Instant.now(), claims.getExpiresAt()).getSeconds());
+        return TokenIntrospection.builder()
+                .active(true)
+                .subject(claims.getSubject())
+                .roles(claims.getRoles())
+                .sessionId(claims.getSessionId())
+                .expiresAt(claims.getExpiresAt() == null ? null : claims.getExpiresAt().getEpochSecond())
+                .cacheMaxAgeSeconds(remainingSeconds)
+                .build();
+    }
+
+    private static TokenIntrospection inactive(InvalidTokenException.Reason reason, TokenClaims claims, boolean revoked) {
+        return TokenIntrospection.builder()
+                .active(false)
+                .reason(reason.name())
+                .subject(claims == null ? null : claims.getSubject())
+                .expiresAt(claims == null || claims.getExpiresAt() == null ? null : claims.getExpiresAt().getEpochSecond())
+                .revoked(revoked)
+                .cacheMaxAgeSeconds(0)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,382 @@
+package jh_platform.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jh_platform.auth.config.UserImportProperties;
+import jh_platform.auth.dto.UserImportRowResult;
+import jh_platform.auth.dto.UserImportSummary;
+import jh_platform.auth.exception.BaseException;
+import jh_platform.auth.mapper.UserMapper;
+import jh_platform.auth.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 일괄 등록 서비스
+ * 
+ * 요청 본문(NDJSON 또는 CSV)을 한 줄씩 읽어 chunk-size행 단위로 처리하므로,
+ * 파일 크기와 관계없이 메모리에는 한 chunk만 유지합니다.
+ * 
+ * chunk 처리 순서:
+ * 1. 필수값 확인, chunk 안에서 중복된 사용자명 제외
+ * 2. IN 조회 한 번으로 이미 등록된 사용자명 제외
+ * 3. 전용 스레드 풀에서 비밀번호 해시를 병렬 실행 (로그인용 PasswordHasher와 분리)
+ * 4. MyBatis BATCH 실행기로 한 트랜잭션에 INSERT
+ *    실패하면 롤백 후 한 행씩 다시 INSERT하여 행별 결과를 보고
+ * 
+ * 해시에 실패한 행은 ERROR로 보고하고 나머지 행은 계속 등록합니다.
+ * 요청 스레드가 중단되면 아직 등록하지 않은 chunk의 행을 ERROR로 보고하고 읽기를 멈추며,
+ * 이때도 요약은 반환합니다. (completed=false)
+ * 
+ * 등록하지 못한 행은 처리하는 즉시 콜백으로 넘기므로, 호출하는 쪽에서 바로 응답에 쓸 수 있습니다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    /**
+     * 요청 본문 형식
+     */
+    public enum Format {
+        /**
+         * 한 줄에 JSON 객체 하나 ({"username":"...","password":"...","name":"...","email":"...","phone":"..."})
+         */
+        NDJSON,
+        /**
+         * 첫 줄은 헤더 (username,password,name,email,phone 중 필요한 컬럼), 값에 줄바꿈은 허용하지 않음
+         */
+        CSV
+    }
+
+    private final UserMapper userMapper;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper objectMapper;
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor hashExecutor;
+
+    private final int chunkSize;
+
+    public UserImportService(UserMapper userMapper,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             SqlSessionFactory sqlSessionFactory,
+                             PlatformTransactionManager transactionManager,
+                             UserImportProperties properties) {
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = properties.getChunkSize();
+        // 대기열이 차면 요청 스레드가 직접 해시 (동시에 여러 건을 등록해도 대기열 크기 이상 쌓이지 않음)
+        this.hashExecutor = new ThreadPoolExecutor(
+                properties.getHashThreads(), properties.getHashThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getChunkSize()),
+                new CustomizableThreadFactory("user-import-hasher-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 사용자 일괄 등록
+     * 
+     * @param reader 요청 본문
+     * @param format 본문 형식
+     * @param rejected 등록하지 못한 행을 받을 콜백 (중복, 오류)
+     * @return 처리 결과 요약
+     * @throws BaseException CSV 헤더에 필수 컬럼이 없는 경우
+     * @throws IOException 본문을 읽지 못한 경우
+     */
+    public UserImportSummary importUsers(BufferedReader reader, Format format, Consumer<UserImportRowResult> rejected)
+            throws IOException {
+        Counter counter = new Counter(rejected);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> csvColumns = null;
+        long lineNumber = 0;
+
+        String line;
+        while (!counter.interrupted && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvColumns == null) {
+                csvColumns = parseCsvHeader(line);
+                continue;
+            }
+
+            counter.total++;
+            User user;
+            try {
+                user = format == Format.CSV ? parseCsvRow(line, csvColumns) : objectMapper.readValue(line, User.class);
+            } catch (Exception e) {
+                counter.reject(new UserImportRowResult(lineNumber, null, UserImportRowResult.ERROR, "형식 오류"));
+                continue;
+            }
+            chunk.add(new Row(lineNumber, user));
+
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, counter);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty() && !counter.interrupted) {
+            processChunk(chunk, counter);
+        }
+
+        if (counter.interrupted) {
+            log.warn("사용자 일괄 등록 중단: 전체 {}건, 등록 {}건, 중복 {}건, 오류 {}건",
+                    counter.total, counter.inserted, counter.duplicates, counter.errors);
+        } else {
+            log.info("사용자 일괄 등록: 전체 {}건, 등록 {}건, 중복 {}건, 오류 {}건",
+                    counter.total, counter.inserted, counter.duplicates, counter.errors);
+        }
+        return new UserImportSummary(
+                counter.total, counter.inserted, counter.duplicates, counter.errors, !counter.interrupted);
+    }
+
+    private void processChunk(List<Row> chunk, Counter counter) {
+        // 1. 필수값, chunk 내 중복 확인
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        Set<String> seen = new HashSet<>();
+        for (Row row : chunk) {
+            User user = row.user();
+            if (isBlank(user.getUsername()) || isBlank(user.getPassword())) {
+                counter.reject(new UserImportRowResult(
+                        row.line(), user.getUsername(), UserImportRowResult.ERROR, "username, password는 필수입니다."));
+            } else if (!seen.add(user.getUsername())) {
+                counter.reject(new UserImportRowResult(
+                        row.line(), user.getUsername(), UserImportRowResult.DUPLICATE, "파일 안에서 중복된 사용자명입니다."));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2. 이미 등록된 사용자명 제외 (IN 조회 1회)
+        Set<String> existing = new HashSet<>(userMapper.findExistingUsernames(new ArrayList<>(seen)));
+        List<Row> rows = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existing.contains(row.user().getUsername())) {
+                counter.reject(new UserImportRowResult(
+                        row.line(), row.user().getUsername(), UserImportRowResult.DUPLICATE, "이미 존재하는 사용자명입니다."));
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 3. 비밀번호 해시 병렬 실행 (실패한 행은 평문 비밀번호가 남아 있으므로 INSERT 대상에서 제외)
+        List<Future<String>> futures = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String rawPassword = row.user().getPassword();
+            futures.add(hashExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        List<Row> hashed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                row.user().setPassword(futures.get(i).get());
+                hashed.add(row);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abort(rows, futures, counter);
+                return;
+            } catch (ExecutionException e) {
+                log.warn("사용자 일괄 등록: 비밀번호 해시 실패, line={}", row.line(), e.getCause());
+                counter.reject(new UserImportRowResult(
+                        row.line(), row.user().getUsername(), UserImportRowResult.ERROR, "비밀번호 암호화 실패"));
+            }
+        }
+        if (hashed.isEmpty()) {
+            return;
+        }
+        insertChunk(hashed, counter);
+    }
+
+    /**
+     * 요청 스레드가 중단된 경우 남은 해시 작업을 취소하고 chunk의 행을 모두 등록하지 못한 것으로 보고
+     */
+    private void abort(List<Row> remaining, List<Future<String>> futures, Counter counter) {
+        for (Future<String> future : futures) {
+            future.cancel(true);
+        }
+        for (Row row : remaining) {
+            counter.reject(new UserImportRowResult(
+                    row.line(), row.user().getUsername(), UserImportRowResult.ERROR, "등록이 중단되었습니다."));
+        }
+        counter.interrupted = true;
+    }
+
+    private void insertChunk(List<Row> rows, Counter counter) {
+        // 4. BATCH INSERT (한 트랜잭션), 실패 시 한 행씩 다시 시도
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserMapper batchUserMapper = batchSqlSessionTemplate.getMapper(UserMapper.class);
+                for (Row row : rows) {
+                    batchUserMapper.insertUser(row.user());
+                }
+                batchSqlSessionTemplate.flushStatements();
+            });
+            counter.inserted += rows.size();
+        } catch (Exception e) {
+            log.warn("사용자 일괄 등록: BATCH INSERT 실패, 한 행씩 다시 시도 ({}건)", rows.size(), e);
+            for (Row row : rows) {
+                insertOne(row, counter);
+            }
+        }
+    }
+
+    private void insertOne(Row row, Counter counter) {
+        try {
+            userMapper.insertUser(row.user());
+            counter.inserted++;
+        } catch (DuplicateKeyException e) {
+            counter.reject(new UserImportRowResult(
+                    row.line(), row.user().getUsername(), UserImportRowResult.DUPLICATE, "이미 존재하는 사용자명입니다."));
+        } catch (Exception e) {
+            counter.reject(new UserImportRowResult(
+                    row.line(), row.user().getUsername(), UserImportRowResult.ERROR, "등록 실패"));
+        }
+    }
+
+    static Map<String, Integer> parseCsvHeader(String line) {
+        List<String> names = parseCsvLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("username") || !columns.containsKey("password")) {
+            throw new BaseException("CSV 헤더에 username, password 컬럼이 필요합니다.");
+        }
+        return columns;
+    }
+
+    private static User parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> values = parseCsvLine(line);
+        User user = new User();
+        user.setUsername(csvValue(values, columns, "username"));
+        user.setPassword(csvValue(values, columns, "password"));
+        user.setName(csvValue(values, columns, "name"));
+        user.setEmail(csvValue(values, columns, "email"));
+        user.setPhone(csvValue(values, columns, "phone"));
+        return user;
+    }
+
+    private static String csvValue(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값, 값 안의 "" 이스케이프 지원)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private record Row(long line, User user) {
+    }
+
+    /**
+     * 한 번의 일괄 등록 동안의 집계 (요청 스레드에서만 사용)
+     */
+    private static final class Counter {
+
+        private final Consumer<UserImportRowResult> rejected;
+
+        private boolean interrupted;
+
+        private long total;
+
+        private long inserted;
+
+        private long duplicates;
+
+        private long errors;
+
+        private Counter(Consumer<UserImportRowResult> rejected) {
+            this.rejected = rejected;
+        }
+
+        private void reject(UserImportRowResult result) {
+            if (UserImportRowResult.DUPLICATE.equals(result.getStatus())) {
+                duplicates++;
+            } else {
+                errors++;
+            }
+            rejected.accept(result);
+        }
+    }
+}
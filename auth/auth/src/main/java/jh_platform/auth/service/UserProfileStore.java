@@ -0,0 +1,120 @@
+package jh_platform.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jh_platform.auth.config.AuthMetrics;
+import jh_platform.auth.config.LocalCacheProperties;
+import jh_platform.auth.mapper.UserMapper;
+import jh_platform.auth.model.User;
+import jh_platform.auth.model.UserProfile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 사용자 정보(/api/auth/user 응답) 저장소 (UserMapper + 읽기 캐시)
+ * 
+ * - 조회: 캐시 -> 없으면 DB 조회 후 캐시에 저장 (사용자가 없으면 저장하지 않음)
+ * - TB_USER의 사용자 정보를 바꾸는 곳에서는 evict()로 무효화
+ * - 다른 인스턴스에서 변경된 행은 local-cache.user-profile.ttl이 지나면 반영
+ */
+@Component
+public class UserProfileStore {
+
+    private final UserMapper userMapper;
+
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 사용자명 -> 사용자 정보/ETag (비활성화 시 null)
+     */
+    private final Cache<String, UserProfile> cache;
+
+    public UserProfileStore(UserMapper userMapper, AuthMetrics authMetrics, LocalCacheProperties localCacheProperties) {
+        this.userMapper = userMapper;
+        this.authMetrics = authMetrics;
+
+        LocalCacheProperties.Spec spec = localCacheProperties.getUserProfile();
+        this.cache = spec.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * 사용자 정보와 ETag 조회
+     * 
+     * @param username 사용자명
+     * @return 사용자 정보(비밀번호 제외)와 ETag, 사용자가 없으면 null
+     */
+    public UserProfile find(String username) {
+        if (cache == null) {
+            return load(username);
+        }
+        return cache.get(username, this::load);
+    }
+
+    /**
+     * 사용자 정보 캐시 무효화 (TB_USER의 사용자 정보를 바꾼 뒤 호출)
+     * 
+     * @param username 사용자명
+     */
+    public void evict(String username) {
+        if (cache != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * 캐시 적중/실패 통계 (비활성화 시 빈 통계)
+     * 
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    private UserProfile load(String username) {
+        User user = authMetrics.phase("user_info", "lookup", () -> userMapper.findByUsername(username));
+        if (user == null) {
+            return null;
+        }
+
+        // 비밀번호는 제외하고 반환 (보안)
+        user.setPassword(null);
+
+        return new UserProfile(user, etag(user));
+    }
+
+    /**
+     * 응답에 포함되는 컬럼 값으로 ETag 생성
+     * 
+     * UPD_DT는 초 단위라 같은 초 안의 변경을 구분하지 못하고, 해시 재암호화처럼 UPD_DT를 유지하는 UPDATE도 있으므로
+     * 응답 내용 자체의 SHA-256 앞 16바이트를 행 버전으로 사용합니다.
+     */
+    private static String etag(User user) {
+        String content = String.join("\u0000",
+                Objects.toString(user.getUserId(), ""),
+                Objects.toString(user.getUsername(), ""),
+                Objects.toString(user.getName(), ""),
+                Objects.toString(user.getEmail(), ""),
+                Objects.toString(user.getPhone(), ""),
+                Objects.toString(user.getStatus(), ""),
+                Objects.toString(user.getInitPwYn(), ""));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package jh_platform.auth.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    private static final String KEY = "ip:/api/auth/login:127.0.0.1";
+
+    /**
+     * 10회 / 10초 -> 1초마다 1회, 한꺼번에 최대 10회
+     */
+    private static final int PERMITS = 10;
+
+    private static final long PERIOD_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final long INTERVAL_NANOS = PERIOD_NANOS / PERMITS;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000_000L);
+
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new GcraRateLimiter(1_000, Duration.ofMinutes(10), now::get);
+    }
+
+    @Test
+    void allowsBurstUpToPermitsThenRejects() {
+        for (int i = 0; i < PERMITS; i++) {
+            assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+        }
+        long waitNanos = rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        assertThat(waitNanos).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    void allowsOneRequestPerEmissionIntervalAfterBurst() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            now.addAndGet(INTERVAL_NANOS);
+            assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+            assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isPositive();
+        }
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeCapacity() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+
+        now.addAndGet(INTERVAL_NANOS);
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+    }
+
+    @Test
+    void idleKeyRefillsToFullBurst() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+
+        now.addAndGet(PERIOD_NANOS * 3);
+        for (int i = 0; i < PERMITS; i++) {
+            assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isPositive();
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+        assertThat(rateLimiter.tryAcquire("ip:/api/auth/login:10.0.0.1", PERMITS, PERIOD_NANOS)).isZero();
+    }
+
+    @Test
+    void releaseReturnsPermit() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+        rateLimiter.release(KEY, PERMITS, PERIOD_NANOS);
+
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isPositive();
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertThat(RateLimitFilter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(INTERVAL_NANOS)).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(INTERVAL_NANOS + 1)).isEqualTo(2);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(4_500))).isEqualTo(5);
+    }
+
+    @Test
+    void retryAfterMatchesWaitUntilNextPermit() {
+        for (int i = 0; i < PERMITS; i++) {
+            rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        }
+        now.addAndGet(INTERVAL_NANOS / 4);
+        long waitNanos = rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS);
+        assertThat(waitNanos).isEqualTo(INTERVAL_NANOS - INTERVAL_NANOS / 4);
+
+        now.addAndGet(waitNanos - 1);
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isEqualTo(1);
+        now.addAndGet(1);
+        assertThat(rateLimiter.tryAcquire(KEY, PERMITS, PERIOD_NANOS)).isZero();
+    }
+}
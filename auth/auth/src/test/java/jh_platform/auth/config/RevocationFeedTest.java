@@ -0,0 +1,72 @@
+package jh_platform.auth.config;
+
+import jh_platform.auth.dto.RevocationDelta;
+import jh_platform.auth.dto.RevocationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationFeedTest {
+
+    private static final long ACCESS_VALIDITY_MILLIS = 3_600_000L;
+
+    private RevocationFeed revocationFeed;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getRevocation().setFeedMaxEvents(2);
+        revocationFeed = new RevocationFeed(securityProperties, ACCESS_VALIDITY_MILLIS);
+    }
+
+    @Test
+    void returnsOnlyEventsAfterSince() {
+        revocationFeed.roleVersionChanged("user1", 2);
+        RevocationDelta first = revocationFeed.since(null, 0);
+
+        revocationFeed.roleVersionChanged("user1", 3);
+        RevocationDelta second = revocationFeed.since(first.getEpoch(), first.getSequence());
+
+        assertThat(second.getEvents()).extracting(RevocationEvent::getRoleVersion).containsExactly(3);
+        assertThat(second.getSequence()).isGreaterThan(first.getSequence());
+        assertThat(revocationFeed.since(second.getEpoch(), second.getSequence()).getEvents()).isEmpty();
+    }
+
+    @Test
+    void pagesByMaxEvents() {
+        for (int i = 1; i <= 3; i++) {
+            revocationFeed.tokenRevoked("jti-" + i, Instant.now().plusSeconds(60));
+        }
+
+        RevocationDelta first = revocationFeed.since(null, 0);
+        RevocationDelta second = revocationFeed.since(first.getEpoch(), first.getSequence());
+
+        assertThat(first.isMore()).isTrue();
+        assertThat(first.getEvents()).extracting(RevocationEvent::getTokenId).containsExactly("jti-1", "jti-2");
+        assertThat(second.isMore()).isFalse();
+        assertThat(second.getEvents()).extracting(RevocationEvent::getTokenId).containsExactly("jti-3");
+    }
+
+    @Test
+    void unknownEpochStartsFromTheBeginning() {
+        revocationFeed.userRevoked("user1", Instant.now());
+        long sequence = revocationFeed.since(null, 0).getSequence();
+
+        assertThat(revocationFeed.since("previous-instance", sequence).getEvents()).hasSize(1);
+    }
+
+    @Test
+    void pruneRemovesEventsWhoseTokensHaveExpired() {
+        revocationFeed.tokenRevoked("expired", Instant.now().minusSeconds(5));
+        revocationFeed.tokenRevoked("active", Instant.now().plusSeconds(60));
+
+        revocationFeed.prune();
+
+        assertThat(revocationFeed.since(null, 0).getEvents())
+                .extracting(RevocationEvent::getTokenId)
+                .containsExactly("active");
+    }
+}
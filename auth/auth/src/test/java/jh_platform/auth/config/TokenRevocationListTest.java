@@ -0,0 +1,110 @@
+package jh_platform.auth.config;
+
+import jh_platform.auth.dto.RevocationEvent;
+import jh_platform.auth.model.TokenClaims;
+import jh_platform.auth.model.UserRoles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private static final long ACCESS_VALIDITY_MILLIS = 3_600_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private RevocationFeed revocationFeed;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(jwtKeyRing, "algorithm", "HS256");
+        ReflectionTestUtils.setField(jwtKeyRing, "accessValidityInMs", ACCESS_VALIDITY_MILLIS);
+        jwtKeyRing.init();
+
+        jwtTokenProvider = new JwtTokenProvider(jwtKeyRing);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "mySuperSecretKeyForJwtAuth1234567890");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessValidityInMs", ACCESS_VALIDITY_MILLIS);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshValidityInMs", 604_800_000L);
+        jwtTokenProvider.init();
+
+        SecurityProperties securityProperties = new SecurityProperties();
+        revocationFeed = new RevocationFeed(securityProperties, ACCESS_VALIDITY_MILLIS);
+        tokenRevocationList = new TokenRevocationList(securityProperties, revocationFeed, ACCESS_VALIDITY_MILLIS);
+    }
+
+    @Test
+    void revokeAllRejectsTokenIssuedInTheSameSecond() {
+        // 발급과 전체 로그아웃을 연달아 실행 (같은 초이거나, 초가 넘어가도 iat가 기준 시각보다 앞섬)
+        TokenClaims claims = jwtTokenProvider.verify(
+                jwtTokenProvider.createAccessToken("user1", "sid-1", userRoles("user1")));
+        tokenRevocationList.revokeAll("user1");
+
+        assertThat(tokenRevocationList.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void revokeAllKeepsTokensIssuedAfterwards() {
+        tokenRevocationList.revokeAll("user1");
+        Instant nextSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+
+        assertThat(tokenRevocationList.isRevoked(claims("user1", nextSecond))).isFalse();
+    }
+
+    @Test
+    void revokeAllOnlyAffectsThatUser() {
+        tokenRevocationList.revokeAll("user1");
+
+        assertThat(tokenRevocationList.isRevoked(claims("user2", Instant.now().truncatedTo(ChronoUnit.SECONDS))))
+                .isFalse();
+    }
+
+    @Test
+    void revokeRejectsOnlyThatTokenId() {
+        TokenClaims revoked = claims("user1", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        TokenClaims other = claims("user1", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        tokenRevocationList.revoke(revoked);
+
+        assertThat(tokenRevocationList.isRevoked(revoked)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void revocationsAreRecordedInFeed() {
+        TokenClaims revoked = claims("user1", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        tokenRevocationList.revoke(revoked);
+        tokenRevocationList.revokeAll("user2");
+
+        List<RevocationEvent> events = revocationFeed.since(null, 0).getEvents();
+
+        assertThat(events).extracting(RevocationEvent::getType)
+                .containsExactly(RevocationEvent.Type.TOKEN, RevocationEvent.Type.USER);
+        assertThat(events.get(0).getTokenId()).isEqualTo(revoked.getTokenId());
+        assertThat(events.get(0).getRetainUntil()).isEqualTo(revoked.getExpiresAt().getEpochSecond());
+        assertThat(events.get(1).getSubject()).isEqualTo("user2");
+        assertThat(events.get(1).getRevokedBefore()).isLessThanOrEqualTo(Instant.now().getEpochSecond());
+    }
+
+    private static TokenClaims claims(String username, Instant issuedAt) {
+        return new TokenClaims(username, issuedAt, issuedAt.plusMillis(ACCESS_VALIDITY_MILLIS),
+                UUID.randomUUID().toString(), "sid-1", List.of("USER"), 1);
+    }
+
+    private static UserRoles userRoles(String username) {
+        UserRoles userRoles = new UserRoles();
+        userRoles.setUsername(username);
+        userRoles.setRoleVersion(1);
+        userRoles.setRoles(List.of("ROLE_USER"));
+        return userRoles;
+    }
+}
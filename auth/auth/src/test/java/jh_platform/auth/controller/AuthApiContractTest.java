@@ -0,0 +1,276 @@
+package jh_platform.auth.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jh_platform.auth.config.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /api/auth/* 응답 계약 테스트
+ *
+ * 같은 시나리오를 기본 모드와 가상 스레드 모드(SPRING_THREADS_VIRTUAL_ENABLED, DataSource 세마포어 포함)로 각각 실행해,
+ * 실행 모드를 바꿔도 상태 코드/쿠키/응답 본문이 같은지 확인합니다.
+ * (loadtest 프로필의 H2 스키마 사용, 컨텍스트마다 별도 인메모리 DB)
+ */
+class AuthApiContractTest {
+
+    private static final String CLIENT_ID = "contract";
+
+    private static final String CLIENT_SECRET = "contract-secret";
+
+    @Nested
+    @ActiveProfiles("loadtest")
+    class PlatformThreads extends Contract {
+
+        @Override
+        boolean virtualThreads() {
+            return false;
+        }
+    }
+
+    @Nested
+    @ActiveProfiles("loadtest")
+    @TestPropertySource(properties = "SPRING_THREADS_VIRTUAL_ENABLED=true")
+    class VirtualThreads extends Contract {
+
+        @Override
+        boolean virtualThreads() {
+            return true;
+        }
+    }
+
+    @SpringBootTest(
+            webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {
+                    "spring.datasource.url=jdbc:h2:mem:contract-${random.uuid};MODE=MariaDB;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+                    "security.introspection.clients[0].id=" + CLIENT_ID,
+                    "security.introspection.clients[0].secret=" + CLIENT_SECRET
+            })
+    abstract static class Contract {
+
+        @Autowired
+        private TestRestTemplate restTemplate;
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        abstract boolean virtualThreads();
+
+        @Test
+        void runsInExpectedThreadingMode() {
+            assertThat(applicationContext.getBeanProvider(VirtualThreadPinningMonitor.class).getIfAvailable() != null)
+                    .isEqualTo(virtualThreads());
+        }
+
+        @Test
+        void signupRejectsDuplicateUsername() {
+            String username = newUsername();
+
+            ResponseEntity<JsonNode> first = signup(username);
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(first.getBody().get("success").asBoolean()).isTrue();
+            assertThat(first.getBody().get("code").asInt()).isEqualTo(200);
+
+            ResponseEntity<JsonNode> second = signup(username);
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(second.getBody().get("success").asBoolean()).isFalse();
+            assertThat(second.getBody().get("code").asInt()).isEqualTo(409);
+        }
+
+        @Test
+        void loginSetsHttpOnlyCookiesWithoutTokensInBody() {
+            String username = newUsername();
+            signup(username);
+
+            ResponseEntity<JsonNode> response = login(username, "password1!");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().get("success").asBoolean()).isTrue();
+            assertThat(response.getBody().path("data").asText(null)).isNull();
+            List<String> setCookies = response.getHeaders().get(HttpHeaders.SET_COOKIE);
+            assertThat(setCookies).anySatisfy(c -> assertThat(c).startsWith("accessToken=").contains("HttpOnly"));
+            assertThat(setCookies).anySatisfy(c -> assertThat(c).startsWith("refreshToken=").contains("HttpOnly"));
+        }
+
+        @Test
+        void loginFailuresUseHttpStatusAndBodyCode() {
+            String username = newUsername();
+            signup(username);
+
+            ResponseEntity<JsonNode> wrongPassword = login(username, "wrong-password");
+            assertThat(wrongPassword.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+            assertThat(wrongPassword.getBody().get("code").asInt()).isEqualTo(401);
+
+            ResponseEntity<JsonNode> unknownUser = login(newUsername(), "password1!");
+            assertThat(unknownUser.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(unknownUser.getBody().get("code").asInt()).isEqualTo(404);
+        }
+
+        @Test
+        void userInfoReturnsProfileAndHonorsEtag() {
+            String username = newUsername();
+            signup(username);
+            String accessToken = cookie(login(username, "password1!"), "accessToken");
+
+            ResponseEntity<JsonNode> response = get("/api/auth/user", cookieHeaders("accessToken=" + accessToken));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().get("data").get("username").asText()).isEqualTo(username);
+            assertThat(response.getBody().get("data").path("password").asText(null)).isNull();
+            assertThat(response.getHeaders().getCacheControl()).contains("private").contains("no-cache");
+            String etag = response.getHeaders().getETag();
+            assertThat(etag).isNotBlank();
+
+            HttpHeaders conditional = cookieHeaders("accessToken=" + accessToken);
+            conditional.setIfNoneMatch(etag);
+            ResponseEntity<JsonNode> notModified = get("/api/auth/user", conditional);
+            assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(notModified.getBody()).isNull();
+        }
+
+        @Test
+        void userInfoRequiresAccessToken() {
+            assertThat(get("/api/auth/user", new HttpHeaders()).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @Test
+        void refreshIssuesNewAccessTokenOnlyForRefreshToken() {
+            String username = newUsername();
+            signup(username);
+            ResponseEntity<JsonNode> login = login(username, "password1!");
+            String accessToken = cookie(login, "accessToken");
+            String refreshToken = cookie(login, "refreshToken");
+
+            ResponseEntity<JsonNode> refreshed = post("/api/auth/refresh", cookieHeaders("refreshToken=" + refreshToken), null);
+            assertThat(refreshed.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(refreshed.getBody().get("code").asInt()).isEqualTo(200);
+            assertThat(cookie(refreshed, "accessToken")).isNotBlank();
+
+            // access token을 refresh token 자리에 보내면 거부 (본문 code 401)
+            ResponseEntity<JsonNode> wrongType = post("/api/auth/refresh", cookieHeaders("refreshToken=" + accessToken), null);
+            assertThat(wrongType.getBody().get("success").asBoolean()).isFalse();
+            assertThat(wrongType.getBody().get("code").asInt()).isEqualTo(401);
+
+            // refresh token으로는 보호된 API에 접근할 수 없음
+            ResponseEntity<JsonNode> refreshAsAccess = get("/api/auth/user", cookieHeaders("accessToken=" + refreshToken));
+            assertThat(refreshAsAccess.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @Test
+        void logoutClearsCookiesAndRevokesTokens() {
+            String username = newUsername();
+            signup(username);
+            ResponseEntity<JsonNode> login = login(username, "password1!");
+            String accessToken = cookie(login, "accessToken");
+            String refreshToken = cookie(login, "refreshToken");
+            HttpHeaders cookies = cookieHeaders("accessToken=" + accessToken + "; refreshToken=" + refreshToken);
+
+            ResponseEntity<JsonNode> logout = post("/api/auth/logout", cookies, null);
+            assertThat(logout.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(logout.getHeaders().get(HttpHeaders.SET_COOKIE))
+                    .anySatisfy(c -> assertThat(c).startsWith("accessToken=").contains("Max-Age=0"))
+                    .anySatisfy(c -> assertThat(c).startsWith("refreshToken=").contains("Max-Age=0"));
+
+            assertThat(get("/api/auth/user", cookieHeaders("accessToken=" + accessToken)).getStatusCode())
+                    .isEqualTo(HttpStatus.FORBIDDEN);
+            ResponseEntity<JsonNode> refresh = post("/api/auth/refresh", cookieHeaders("refreshToken=" + refreshToken), null);
+            assertThat(refresh.getBody().get("code").asInt()).isEqualTo(401);
+        }
+
+        @Test
+        void introspectRequiresServiceCredential() {
+            String username = newUsername();
+            signup(username);
+            String accessToken = cookie(login(username, "password1!"), "accessToken");
+            Map<String, Object> body = Map.of("tokens", List.of(accessToken, "not-a-token"));
+
+            ResponseEntity<JsonNode> anonymous = post("/api/auth/introspect", jsonHeaders(), body);
+            assertThat(anonymous.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+            HttpHeaders withUserCookie = jsonHeaders();
+            withUserCookie.add(HttpHeaders.COOKIE, "accessToken=" + accessToken);
+            assertThat(post("/api/auth/introspect", withUserCookie, body).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+            HttpHeaders client = jsonHeaders();
+            client.set(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                    .encodeToString((CLIENT_ID + ":" + CLIENT_SECRET).getBytes(StandardCharsets.UTF_8)));
+            ResponseEntity<JsonNode> response = post("/api/auth/introspect", client, body);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode results = response.getBody().get("data");
+            assertThat(results.size()).isEqualTo(2);
+            assertThat(results.get(0).get("active").asBoolean()).isTrue();
+            assertThat(results.get(0).get("subject").asText()).isEqualTo(username);
+            assertThat(results.get(1).get("active").asBoolean()).isFalse();
+            assertThat(results.get(1).get("reason").asText()).isEqualTo("MALFORMED");
+        }
+
+        private ResponseEntity<JsonNode> signup(String username) {
+            return post("/api/auth/signup", jsonHeaders(), Map.of(
+                    "username", username,
+                    "password", "password1!",
+                    "name", "계약테스트",
+                    "email", username + "@example.com"));
+        }
+
+        private ResponseEntity<JsonNode> login(String username, String password) {
+            return post("/api/auth/login", jsonHeaders(), Map.of("username", username, "password", password));
+        }
+
+        private ResponseEntity<JsonNode> get(String path, HttpHeaders headers) {
+            return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+        }
+
+        private ResponseEntity<JsonNode> post(String path, HttpHeaders headers, Object body) {
+            return restTemplate.exchange(path, HttpMethod.POST, new HttpEntity<>(body, headers), JsonNode.class);
+        }
+
+        private static HttpHeaders jsonHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return headers;
+        }
+
+        private static HttpHeaders cookieHeaders(String cookies) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.COOKIE, cookies);
+            return headers;
+        }
+
+        /**
+         * Set-Cookie 헤더에서 쿠키 값 추출
+         */
+        private static String cookie(ResponseEntity<?> response, String name) {
+            List<String> setCookies = response.getHeaders().getOrDefault(HttpHeaders.SET_COOKIE, List.of());
+            for (String setCookie : setCookies) {
+                if (setCookie.startsWith(name + "=")) {
+                    int end = setCookie.indexOf(';');
+                    return setCookie.substring(name.length() + 1, end < 0 ? setCookie.length() : end);
+                }
+            }
+            throw new AssertionError(name + " 쿠키가 없습니다: " + setCookies);
+        }
+
+        private static String newUsername() {
+            return "u" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        }
+    }
+}
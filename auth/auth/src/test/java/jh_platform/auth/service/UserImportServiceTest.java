@@ -0,0 +1,148 @@
+package jh_platform.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jh_platform.auth.config.UserImportProperties;
+import jh_platform.auth.dto.UserImportRowResult;
+import jh_platform.auth.dto.UserImportSummary;
+import jh_platform.auth.exception.BaseException;
+import jh_platform.auth.mapper.UserMapper;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceTest {
+
+    private UserMapper userMapper;
+
+    private PasswordEncoder passwordEncoder;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = mock(UserMapper.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+
+        // BATCH용 SqlSessionTemplate 생성에만 쓰이는 설정 (이 테스트들은 INSERT 단계까지 가지 않음)
+        SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+        when(sqlSessionFactory.getConfiguration()).thenReturn(
+                new Configuration(new Environment("test", new JdbcTransactionFactory(), mock(DataSource.class))));
+
+        UserImportProperties properties = new UserImportProperties();
+        properties.setChunkSize(10);
+        properties.setHashThreads(1);
+
+        userImportService = new UserImportService(userMapper, passwordEncoder, new ObjectMapper(),
+                sqlSessionFactory, mock(PlatformTransactionManager.class), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    void parseCsvLineSplitsPlainValues() {
+        assertThat(UserImportService.parseCsvLine("alice,secret,,a@example.com"))
+                .containsExactly("alice", "secret", "", "a@example.com");
+    }
+
+    @Test
+    void parseCsvLineKeepsCommasInsideQuotes() {
+        assertThat(UserImportService.parseCsvLine("\"kim, minsu\",\"pw\""))
+                .containsExactly("kim, minsu", "pw");
+    }
+
+    @Test
+    void parseCsvLineUnescapesDoubledQuotes() {
+        assertThat(UserImportService.parseCsvLine("\"say \"\"hi\"\"\",\"\"\"\"")
+                .containsExactly("say \"hi\"", "\"");
+    }
+
+    @Test
+    void parseCsvHeaderRequiresUsernameAndPassword() {
+        assertThat(UserImportService.parseCsvHeader(" Username ,PASSWORD,name"))
+                .containsEntry("username", 0)
+                .containsEntry("password", 1)
+                .containsEntry("name", 2);
+        assertThatThrownBy(() -> UserImportService.parseCsvHeader("username,name"))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    void chunkReportsDuplicatesInFileAndInDatabase() throws Exception {
+        when(userMapper.findExistingUsernames(anyList())).thenReturn(List.of("alice", "bob"));
+        String body = """
+                {"username":"alice","password":"pw1"}
+                {"username":"alice","password":"pw2"}
+                {"username":"bob","password":"pw3"}
+                {"username":"carol"}
+                """;
+
+        List<UserImportRowResult> rejected = new ArrayList<>();
+        UserImportSummary summary = userImportService.importUsers(
+                new BufferedReader(new StringReader(body)), UserImportService.Format.NDJSON, rejected::add);
+
+        assertThat(rejected).extracting(UserImportRowResult::getLine, UserImportRowResult::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, UserImportRowResult.DUPLICATE),
+                        tuple(2L, UserImportRowResult.DUPLICATE),
+                        tuple(3L, UserImportRowResult.DUPLICATE),
+                        tuple(4L, UserImportRowResult.ERROR));
+        assertThat(summary.getTotal()).isEqualTo(4);
+        assertThat(summary.getDuplicates()).isEqualTo(3);
+        assertThat(summary.getErrors()).isEqualTo(1);
+        assertThat(summary.getInserted()).isZero();
+        assertThat(summary.isCompleted()).isTrue();
+
+        // chunk 안의 중복 사용자명은 IN 조회에 한 번만 포함
+        verify(userMapper, times(1)).findExistingUsernames(argThat(names ->
+                names.size() == 2 && names.containsAll(List.of("alice", "bob"))));
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void hashFailureIsReportedPerRowAndSummaryIsStillReturned() throws Exception {
+        when(userMapper.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encode("pw")).thenThrow(new IllegalStateException("hash failed"));
+        String body = "username,password\ndave,pw\n";
+
+        List<UserImportRowResult> rejected = new ArrayList<>();
+        UserImportSummary summary = userImportService.importUsers(
+                new BufferedReader(new StringReader(body)), UserImportService.Format.CSV, rejected::add);
+
+        assertThat(rejected).singleElement().satisfies(result -> {
+            assertThat(result.getLine()).isEqualTo(2);
+            assertThat(result.getUsername()).isEqualTo("dave");
+            assertThat(result.getStatus()).isEqualTo(UserImportRowResult.ERROR);
+        });
+        assertThat(summary.getErrors()).isEqualTo(1);
+        assertThat(summary.getInserted()).isZero();
+        assertThat(summary.isCompleted()).isTrue();
+        verify(userMapper, never()).insertUser(any());
+    }
+}
@@ -8,7 +8,9 @@ CREATE TABLE TB_USER (
     STATUS         VARCHAR(10) DEFAULT 'ACTIVE' COMMENT '계정 상태(ACTIVE, INACTIVE, LOCKED 등)',
     LOGIN_FAIL_CNT INT DEFAULT 0 COMMENT '로그인 실패 횟수',
     LAST_LOGIN_DT  DATETIME COMMENT '마지막 로그인 일시',
+    LAST_FAIL_DT   DATETIME COMMENT '마지막 로그인 실패 일시 (잠금 해제 시각 계산용)',
     INIT_PW_YN        CHAR(1) DEFAULT 'Y' COMMENT '초기 비밀번호 여부 (Y: 초기비밀번호, N: 변경완료)',
+    ROLE_VER       INT NOT NULL DEFAULT 0 COMMENT '권한 버전 (TB_USER_ROLE 변경 시 증가)',
    	LAST_UPDATE_PASS DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 비밀번호 변경 일시',
     REG_DT         DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '등록일시',
     UPD_DT         DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
@@ -51,11 +53,34 @@ CREATE TABLE TB_LOGIN_HISTORY (
 
 
 CREATE TABLE TB_USER_REFRESH_TOKEN (
-    USERNAME       VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '사용자 ID',
-    REFRESH_TOKEN  VARCHAR(512) NOT NULL COMMENT '리프레시 토큰(JWT 또는 난수)',
+    SESSION_ID     CHAR(36) NOT NULL PRIMARY KEY COMMENT '세션 ID (기기/로그인별)',
+    USERNAME       VARCHAR(50) NOT NULL COMMENT '사용자 ID',
+    REFRESH_TOKEN  VARCHAR(512) COMMENT '리프레시 토큰(JWT 방식일 때만 저장)',
+    TOKEN_HASH     BINARY(32) COMMENT '리프레시 토큰 SHA-256 해시(opaque 방식일 때만 저장)',
+    LOGIN_IP       VARCHAR(45) COMMENT '로그인 IP',
+    USER_AGENT     VARCHAR(255) COMMENT '브라우저/디바이스 정보',
     EXPIRES_AT     DATETIME NOT NULL COMMENT '리프레시 토큰 만료 일시',
     REVOKED_YN     CHAR(1) DEFAULT 'N' COMMENT '토큰 폐기 여부 (Y: 폐기, N: 사용중)',
     REG_DT         DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '등록일시',
     UPD_DT         DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
-    CONSTRAINT FK_USER_REFRESH_USER FOREIGN KEY (USERNAME) REFERENCES TB_USER(USERNAME)
-) COMMENT='사용자 리프레시 토큰 관리';
+    CONSTRAINT FK_USER_REFRESH_USER FOREIGN KEY (USERNAME) REFERENCES TB_USER(USERNAME),
+    CONSTRAINT UK_USER_REFRESH_TOKEN_HASH UNIQUE (TOKEN_HASH),
+    INDEX IX_USER_REFRESH_TOKEN_USER (USERNAME, EXPIRES_AT),
+    INDEX IX_USER_REFRESH_TOKEN_EXPIRES (EXPIRES_AT)
+) COMMENT='사용자 리프레시 토큰(세션) 관리 - 기기별 1행';
+
+-- 기존 DB 변경 (사용자별 1행 -> 세션별 1행)
+-- 기본키가 USERNAME에서 SESSION_ID로 바뀌므로 테이블을 다시 생성합니다. (기존 refresh token은 무효화되어 재로그인 필요)
+-- DROP TABLE TB_USER_REFRESH_TOKEN;
+-- 이후 위의 CREATE TABLE TB_USER_REFRESH_TOKEN 실행
+
+-- 기존 DB 변경 (만료 세션 정리용 인덱스)
+-- ALTER TABLE TB_USER_REFRESH_TOKEN ADD INDEX IX_USER_REFRESH_TOKEN_EXPIRES (EXPIRES_AT);
+-- 폐기 세션 정리용 인덱스를 만들었던 DB (REVOKED_YN은 값이 두 개뿐이라 인덱스를 타지 않고, 로그아웃은 행을 바로 삭제함)
+-- ALTER TABLE TB_USER_REFRESH_TOKEN DROP INDEX IX_USER_REFRESH_TOKEN_REVOKED;
+
+-- 기존 DB 변경 (마지막 로그인 실패 일시)
+-- ALTER TABLE TB_USER ADD COLUMN LAST_FAIL_DT DATETIME COMMENT '마지막 로그인 실패 일시 (잠금 해제 시각 계산용)' AFTER LAST_LOGIN_DT;
+
+-- 기존 DB 변경 (권한 버전)
+-- ALTER TABLE TB_USER ADD COLUMN ROLE_VER INT NOT NULL DEFAULT 0 COMMENT '권한 버전 (TB_USER_ROLE 변경 시 증가)' AFTER INIT_PW_YN;
@@ -0,0 +1,34 @@
+package jh_platform.jwt;
+
+/**
+ * JwtVerifier에서 토큰 검증에 실패했을 때 발생하는 예외
+ *
+ * 사용하는 쪽(auth 서비스, 게이트웨이)에서 같은 이름의 사유를 가진 자체 예외로 바꿔 던집니다.
+ */
+public class JwtVerificationException extends RuntimeException {
+
+    /**
+     * 토큰 검증 실패 사유
+     */
+    public enum Reason {
+        /** 만료된 토큰 */
+        EXPIRED,
+        /** 서명이 일치하지 않거나 kid를 알 수 없는 토큰 */
+        BAD_SIGNATURE,
+        /** 형식이 잘못되었거나 필수 클레임(jti)이 없는 토큰 */
+        MALFORMED,
+        /** 용도가 다른 토큰 (access token 자리에 refresh token을 보낸 경우 등) */
+        WRONG_TYPE
+    }
+
+    private final Reason reason;
+
+    public JwtVerificationException(Reason reason) {
+        super("토큰이 유효하지 않습니다.");
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
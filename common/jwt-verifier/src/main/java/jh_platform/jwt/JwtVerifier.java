@@ -0,0 +1,176 @@
+package jh_platform.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * auth 서비스와 게이트웨이가 함께 쓰는 JWT 검증기
+ *
+ * 서명 키:
+ * - kid 없는 토큰: HS256 공유 비밀키
+ * - kid 있는 토큰: kid로 찾은 RSA 공개키 (RS256, auth 서비스는 JwtKeyRing, 게이트웨이는 JWKS)
+ * - refresh token: 항상 HS256 비밀키로만 검증
+ *
+ * 토큰 종류:
+ * HS256에서는 두 토큰이 같은 키로 서명되므로 token_use 클레임(access/refresh)으로 구분하고,
+ * 용도가 다른 토큰은 서명이 맞더라도 WRONG_TYPE으로 거부합니다.
+ * access token은 폐기 목록이 jti로 동작하므로 jti가 없으면 MALFORMED로 거부합니다.
+ *
+ * 불변 객체라 여러 스레드에서 공유해도 안전합니다.
+ */
+public final class JwtVerifier {
+
+    /**
+     * 세션 ID 클레임 이름 (TB_USER_REFRESH_TOKEN.SESSION_ID)
+     */
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    /**
+     * 권한 코드 클레임 이름 (ROLE_ 접두어를 뗀 짧은 코드 목록, ex: ["ADMIN","USER"])
+     */
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * 권한 버전 클레임 이름 (TB_USER.ROLE_VER)
+     */
+    public static final String ROLE_VERSION_CLAIM = "rv";
+
+    /**
+     * 토큰 종류 클레임 이름 (access 또는 refresh)
+     */
+    public static final String TOKEN_USE_CLAIM = "token_use";
+
+    public static final String ACCESS_TOKEN_USE = "access";
+
+    public static final String REFRESH_TOKEN_USE = "refresh";
+
+    private final JwtParser accessTokenParser;
+
+    /**
+     * refresh token 전용 파서 (HS256 비밀키가 없으면 null)
+     */
+    private final JwtParser refreshTokenParser;
+
+    /**
+     * @param hmacKey    HS256 비밀키 (없으면 null, kid 없는 토큰은 모두 BAD_SIGNATURE)
+     * @param publicKeys kid -> RSA 공개키 조회 (RS256을 쓰지 않으면 null, 모르는 kid면 null 반환)
+     */
+    public JwtVerifier(Key hmacKey, Function<String, ? extends Key> publicKeys) {
+        // jjwt가 헤더의 alg와 키 종류가 맞는지 함께 확인하므로 알고리즘 혼용 공격은 차단됨
+        this.accessTokenParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        if (header.getKeyId() == null) {
+                            if (hmacKey == null) {
+                                throw new SignatureException("HS256 비밀키가 설정되지 않음");
+                            }
+                            return hmacKey;
+                        }
+                        Key key = publicKeys == null ? null : publicKeys.apply(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        this.refreshTokenParser = hmacKey == null
+                ? null
+                : Jwts.parserBuilder().setSigningKey(hmacKey).build();
+    }
+
+    /**
+     * access token의 서명/만료/종류/jti를 검증하고 클레임을 반환합니다.
+     *
+     * @param token 검증할 access token 문자열
+     * @return 검증된 클레임
+     * @throws JwtVerificationException 토큰이 만료되었거나, 서명이 다르거나, 형식이 잘못되었거나, access token이 아닌 경우
+     */
+    public VerifiedClaims verifyAccessToken(String token) {
+        Claims claims = parse(accessTokenParser, token);
+        if (!ACCESS_TOKEN_USE.equals(tokenUse(claims))) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.WRONG_TYPE);
+        }
+        if (claims.getId() == null || claims.getId().isEmpty()) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.MALFORMED);
+        }
+        return toVerifiedClaims(claims);
+    }
+
+    /**
+     * refresh token의 서명/만료/종류를 검증하고 클레임을 반환합니다. (HS256 비밀키로만 검증)
+     *
+     * @param token 검증할 refresh token 문자열
+     * @return 검증된 클레임
+     * @throws JwtVerificationException 토큰이 만료되었거나, 서명이 다르거나, 형식이 잘못되었거나, refresh token이 아닌 경우
+     */
+    public VerifiedClaims verifyRefreshToken(String token) {
+        if (refreshTokenParser == null) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.BAD_SIGNATURE);
+        }
+        Claims claims = parse(refreshTokenParser, token);
+        if (!REFRESH_TOKEN_USE.equals(tokenUse(claims))) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.WRONG_TYPE);
+        }
+        return toVerifiedClaims(claims);
+    }
+
+    private static Claims parse(JwtParser parser, String token) {
+        try {
+            // parseClaimsJws(): 서명이 포함된 JWT를 파싱하며, 서명과 만료도 함께 검증
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.EXPIRED);
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            throw new JwtVerificationException(JwtVerificationException.Reason.BAD_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            // IllegalArgumentException: null 또는 빈 토큰
+            throw new JwtVerificationException(JwtVerificationException.Reason.MALFORMED);
+        }
+    }
+
+    /**
+     * 토큰 종류 판별
+     *
+     * token_use 클레임이 없는 토큰은 이 클레임 도입 전에 발급된 것으로,
+     * 당시에는 access token에만 jti가 있었으므로 jti 유무로 구분합니다.
+     */
+    private static String tokenUse(Claims claims) {
+        String tokenUse = claims.get(TOKEN_USE_CLAIM, String.class);
+        if (tokenUse != null) {
+            return tokenUse;
+        }
+        return claims.getId() != null ? ACCESS_TOKEN_USE : REFRESH_TOKEN_USE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VerifiedClaims toVerifiedClaims(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        return new VerifiedClaims(
+                claims.getSubject(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                claims.getId(),
+                claims.get(SESSION_ID_CLAIM, String.class),
+                roles instanceof List ? (List<String>) roles : null,
+                claims.get(ROLE_VERSION_CLAIM, Integer.class)
+        );
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
@@ -0,0 +1,41 @@
+package jh_platform.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명/만료/토큰 종류 검증을 마친 JWT의 클레임
+ * (auth 서비스와 게이트웨이가 같은 클레임 이름을 쓰도록 JwtVerifier에서만 생성)
+ *
+ * @param subject     사용자명 (sub)
+ * @param issuedAt    발급 시각 (iat), 없으면 null
+ * @param expiresAt   만료 시각 (exp), 없으면 null
+ * @param tokenId     토큰 고유 ID (jti), access token은 항상 있음
+ * @param sessionId   세션 ID (sid), 없으면 null
+ * @param roles       권한 코드 목록 (ROLE_ 접두어 제외), 없으면 빈 목록
+ * @param roleVersion 발급 당시 권한 버전 (rv), 없으면 null
+ */
+public record VerifiedClaims(
+        String subject,
+        Instant issuedAt,
+        Instant expiresAt,
+        String tokenId,
+        String sessionId,
+        List<String> roles,
+        Integer roleVersion
+) {
+
+    public VerifiedClaims {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    /**
+     * 주어진 시각 기준으로 만료되었는지 확인
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
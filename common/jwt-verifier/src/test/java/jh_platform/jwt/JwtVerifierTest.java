@@ -0,0 +1,143 @@
+package jh_platform.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtVerifierTest {
+
+    private static final Key HMAC_KEY =
+            Keys.hmacShaKeyFor("mySuperSecretKeyForJwtAuth1234567890".getBytes(StandardCharsets.UTF_8));
+
+    private static final KeyPair RSA_KEY = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+    private final JwtVerifier verifier = new JwtVerifier(HMAC_KEY, Map.of("k1", RSA_KEY.getPublic())::get);
+
+    @Test
+    void verifiesAccessTokenClaims() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, "jti-1")
+                .claim(JwtVerifier.SESSION_ID_CLAIM, "sid-1")
+                .claim(JwtVerifier.ROLES_CLAIM, List.of("ADMIN"))
+                .claim(JwtVerifier.ROLE_VERSION_CLAIM, 3)
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        VerifiedClaims claims = verifier.verifyAccessToken(token);
+
+        assertEquals("user1", claims.subject());
+        assertEquals("jti-1", claims.tokenId());
+        assertEquals("sid-1", claims.sessionId());
+        assertEquals(List.of("ADMIN"), claims.roles());
+        assertEquals(3, claims.roleVersion());
+    }
+
+    @Test
+    void verifiesRs256AccessTokenByKid() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, "jti-1")
+                .setHeaderParam(JwsHeader.KEY_ID, "k1")
+                .signWith(RSA_KEY.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertEquals("jti-1", verifier.verifyAccessToken(token).tokenId());
+    }
+
+    @Test
+    void rejectsRefreshTokenAsAccessToken() {
+        String refreshToken = token(JwtVerifier.REFRESH_TOKEN_USE, UUID.randomUUID().toString())
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.WRONG_TYPE, () -> verifier.verifyAccessToken(refreshToken));
+        assertEquals("user1", verifier.verifyRefreshToken(refreshToken).subject());
+    }
+
+    @Test
+    void rejectsAccessTokenAsRefreshToken() {
+        String accessToken = token(JwtVerifier.ACCESS_TOKEN_USE, UUID.randomUUID().toString())
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.WRONG_TYPE, () -> verifier.verifyRefreshToken(accessToken));
+    }
+
+    @Test
+    void rejectsAccessTokenWithoutJti() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, null)
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.MALFORMED, () -> verifier.verifyAccessToken(token));
+    }
+
+    @Test
+    void classifiesLegacyTokensByJti() {
+        String legacyAccess = token(null, "jti-1").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+        String legacyRefresh = token(null, null).signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        assertEquals("jti-1", verifier.verifyAccessToken(legacyAccess).tokenId());
+        assertReason(JwtVerificationException.Reason.WRONG_TYPE, () -> verifier.verifyAccessToken(legacyRefresh));
+    }
+
+    @Test
+    void rejectsUnknownKid() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, "jti-1")
+                .setHeaderParam(JwsHeader.KEY_ID, "unknown")
+                .signWith(RSA_KEY.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.BAD_SIGNATURE, () -> verifier.verifyAccessToken(token));
+    }
+
+    @Test
+    void rejectsRsaSignedRefreshToken() {
+        String token = token(JwtVerifier.REFRESH_TOKEN_USE, "jti-1")
+                .setHeaderParam(JwsHeader.KEY_ID, "k1")
+                .signWith(RSA_KEY.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.BAD_SIGNATURE, () -> verifier.verifyRefreshToken(token));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, "jti-1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertReason(JwtVerificationException.Reason.EXPIRED, () -> verifier.verifyAccessToken(token));
+    }
+
+    private static JwtBuilder token(String tokenUse, String jti) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject("user1")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (tokenUse != null) {
+            builder.claim(JwtVerifier.TOKEN_USE_CLAIM, tokenUse);
+        }
+        if (jti != null) {
+            builder.setId(jti);
+        }
+        return builder;
+    }
+
+    private static void assertReason(JwtVerificationException.Reason reason, Runnable verification) {
+        JwtVerificationException e = assertThrows(JwtVerificationException.class, verification::run);
+        assertEquals(reason, e.getReason());
+    }
+}
@@ -0,0 +1,100 @@
+package jh_platform.gateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.security.Keys;
+import jh_platform.gateway.exception.InvalidTokenException;
+import jh_platform.jwt.JwtVerificationException;
+import jh_platform.jwt.JwtVerifier;
+import jh_platform.jwt.VerifiedClaims;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * access token 로컬 검증기
+ *
+ * 검증 규칙은 auth 서비스와 함께 쓰는 common/jwt-verifier의 JwtVerifier를 그대로 사용합니다.
+ * - kid 없는 토큰: HS256 공유 비밀키
+ * - kid 있는 토큰: JWKS의 RSA 공개키 (RS256)
+ * - refresh token(token_use=refresh)은 WRONG_TYPE, jti가 없는 토큰은 MALFORMED로 거부
+ * - 만료/서명 오류/형식 오류를 InvalidTokenException.Reason으로 구분
+ *
+ * 같은 토큰은 만료 시각까지 캐시해 두고 다시 검증하지 않습니다. (auth 서비스 VerifiedTokenCache와 같은 방식)
+ */
+@Component
+public class AccessTokenVerifier {
+
+    private final JwtVerifier jwtVerifier;
+
+    /**
+     * 토큰 원문 -> 검증된 클레임 (비활성화 시 null)
+     */
+    private final Cache<String, VerifiedClaims> cache;
+
+    public AccessTokenVerifier(GatewayAuthProperties properties, JwksKeyStore jwksKeyStore) {
+        Key hmacKey = properties.getSecret() == null
+                ? null
+                : Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtVerifier = new JwtVerifier(hmacKey, jwksKeyStore.isEnabled() ? jwksKeyStore::findKey : null);
+
+        this.cache = properties.getTokenCacheMaximumSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getTokenCacheMaximumSize())
+                        .expireAfter(new ExpiresAtTokenExpiry())
+                        .build()
+                : null;
+    }
+
+    /**
+     * access token 검증 (캐시 우선)
+     *
+     * @param token accessToken 쿠키 값
+     * @return 검증된 클레임
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
+     */
+    public VerifiedClaims verify(String token) {
+        if (cache != null) {
+            VerifiedClaims cached = cache.getIfPresent(token);
+            if (cached != null && !cached.isExpiredAt(Instant.now())) {
+                return cached;
+            }
+        }
+
+        VerifiedClaims verified;
+        try {
+            verified = jwtVerifier.verifyAccessToken(token);
+        } catch (JwtVerificationException e) {
+            throw new InvalidTokenException(InvalidTokenException.Reason.valueOf(e.getReason().name()));
+        }
+        if (cache != null && verified.expiresAt() != null) {
+            cache.put(token, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 항목을 토큰의 exp 시각에 만료시키는 정책
+     */
+    private static class ExpiresAtTokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package jh_platform.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이 JWT 검증 설정 Properties
+ *
+ * application.yml의 gateway.auth 설정을 읽어옵니다.
+ * 알고리즘/비밀키는 auth 서비스의 spring.jwt 설정과 같아야 합니다.
+ *
+ * 사용 예시:
+ * gateway:
+ *   auth:
+ *     algorithm: RS256
+ *     secret: mySuperSecretKeyForJwtAuth1234567890
+ *     jwks-uri: http://auth-service:8080/.well-known/jwks.json
+ *     public-paths:
+ *       - /api/auth/**
+ *     revocation-feed:
+ *       uri: http://auth-service:8080/api/auth/revocations
+ *       client-id: gateway
+ *       client-secret: ${SECURITY_INTROSPECTION_GATEWAY_SECRET}
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.auth")
+@Getter
+@Setter
+public class GatewayAuthProperties {
+
+    /**
+     * access token 서명 알고리즘 (HS256: 공유 비밀키, RS256: auth 서비스 JWKS)
+     */
+    private String algorithm = "HS256";
+
+    /**
+     * HS256 공유 비밀키 (auth 서비스의 spring.jwt.secret)
+     * RS256이어도 kid 없는 토큰(알고리즘 전환 전 발급분) 검증에 사용
+     */
+    private String secret;
+
+    /**
+     * auth 서비스 JWKS 주소 (RS256일 때만 사용)
+     */
+    private String jwksUri;
+
+    /**
+     * JWKS 갱신 주기 (밀리초, auth 서비스가 next 키를 미리 공개하므로 키 교체 주기보다 충분히 짧게)
+     */
+    private long jwksRefreshIntervalMillis = 60000;
+
+    /**
+     * 알 수 없는 kid로 JWKS를 다시 받을 때의 최소 간격 (밀리초, 위조 토큰으로 auth 서비스를 두드리지 않도록)
+     */
+    private long jwksMinRefreshIntervalMillis = 5000;
+
+    /**
+     * 토큰 없이 통과시킬 경로 (auth 서비스 경로는 auth 서비스가 직접 인증)
+     */
+    private List<String> publicPaths = new ArrayList<>();
+
+    /**
+     * 검증된 사용자 정보를 담아 백엔드로 보낼 헤더 접두어
+     * (클라이언트가 보낸 같은 접두어 헤더는 모두 제거)
+     */
+    private String headerPrefix = "X-Auth-";
+
+    /**
+     * 검증된 access token 캐시 최대 개수 (0이면 캐시 사용 안 함)
+     */
+    private long tokenCacheMaximumSize = 10000;
+
+    /**
+     * 폐기된 토큰/사용자, 권한 버전 기록 최대 개수 (각각)
+     */
+    private long revocationMaximumSize = 100000;
+
+    /**
+     * auth 서비스 폐기/권한 변경분 조회 설정 (다른 인스턴스 로그아웃, 권한 버전 반영)
+     */
+    private RevocationFeed revocationFeed = new RevocationFeed();
+
+    /**
+     * auth 서비스 폐기/권한 변경분 조회 설정 (GET /api/auth/revocations, HTTP Basic)
+     *
+     * poll-interval-millis마다 마지막으로 받은 순번 이후의 변경분만 가져와 TokenRevocationCache에 반영하고,
+     * 요청 처리 중에는 auth 서비스를 호출하지 않습니다.
+     * client-secret이 비어 있으면 조회하지 않고 이 인스턴스에서 처리한 로그아웃만 반영합니다.
+     */
+    @Getter
+    @Setter
+    public static class RevocationFeed {
+
+        /**
+         * auth 서비스 변경분 조회 주소
+         */
+        private String uri;
+
+        /**
+         * auth 서비스 security.introspection.clients에 등록한 서비스 계정
+         */
+        private String clientId = "gateway";
+
+        private String clientSecret;
+
+        /**
+         * 조회 주기 (밀리초, 다른 인스턴스의 로그아웃/권한 변경이 반영되기까지의 지연)
+         */
+        private long pollIntervalMillis = 1_000;
+
+        /**
+         * auth 서비스 응답 대기 시간 (밀리초, 넘으면 이미 받은 변경분으로 계속 검증하고 다음 주기에 다시 조회)
+         */
+        private long timeoutMillis = 2_000;
+
+        public boolean isEnabled() {
+            return uri != null && !uri.isBlank() && clientSecret != null && !clientSecret.isBlank();
+        }
+    }
+}
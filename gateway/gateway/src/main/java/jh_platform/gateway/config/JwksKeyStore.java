@@ -0,0 +1,115 @@
+package jh_platform.gateway.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * auth 서비스 JWKS(/.well-known/jwks.json)의 RSA 공개키 보관소
+ *
+ * 요청 처리 중에는 메모리의 kid -> 공개키 맵만 조회하고, 갱신은 비동기로 합니다.
+ * - 주기 갱신: jwks-refresh-interval-millis마다
+ * - 즉시 갱신: 모르는 kid가 오면 (jwks-min-refresh-interval-millis에 한 번까지)
+ *
+ * auth 서비스는 다음 서명 키(next)를 교체 전에 미리 공개하므로,
+ * 주기 갱신만으로도 새 키로 서명된 토큰이 오기 전에 공개키를 받아 두게 됩니다.
+ */
+@Slf4j
+@Component
+public class JwksKeyStore {
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(3);
+
+    private final GatewayAuthProperties properties;
+
+    private final WebClient webClient;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    private final AtomicLong lastRefreshRequestedAt = new AtomicLong();
+
+    public JwksKeyStore(GatewayAuthProperties properties, WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.webClient = webClientBuilder.build();
+    }
+
+    /**
+     * RS256(JWKS) 사용 여부
+     */
+    public boolean isEnabled() {
+        return "RS256".equalsIgnoreCase(properties.getAlgorithm());
+    }
+
+    /**
+     * kid에 해당하는 공개키 (없으면 비동기 갱신을 요청하고 null 반환)
+     */
+    public PublicKey findKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            long now = System.currentTimeMillis();
+            long last = lastRefreshRequestedAt.get();
+            if (now - last >= properties.getJwksMinRefreshIntervalMillis()
+                    && lastRefreshRequestedAt.compareAndSet(last, now)) {
+                refresh();
+            }
+        }
+        return key;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.auth.jwks-refresh-interval-millis:60000}")
+    public void refresh() {
+        if (!isEnabled()) {
+            return;
+        }
+        webClient.get()
+                .uri(properties.getJwksUri())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(FETCH_TIMEOUT)
+                .subscribe(this::update, e -> log.warn("JWKS 조회 실패: {} ({})", properties.getJwksUri(), e.toString()));
+    }
+
+    private void update(JsonNode jwks) {
+        Map<String, PublicKey> updated = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                updated.put(jwk.get("kid").asText(), toPublicKey(jwk));
+            } catch (Exception e) {
+                log.warn("JWKS 키 변환 실패: kid={}", jwk.get("kid").asText(), e);
+            }
+        }
+        if (!updated.keySet().equals(keys.keySet())) {
+            log.info("JWKS 갱신: kid={}", updated.keySet());
+        }
+        this.keys = Map.copyOf(updated);
+    }
+
+    private static PublicKey toPublicKey(JsonNode jwk) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger modulus = new BigInteger(1, decoder.decode(jwk.get("n").asText()));
+        BigInteger exponent = new BigInteger(1, decoder.decode(jwk.get("e").asText()));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+}
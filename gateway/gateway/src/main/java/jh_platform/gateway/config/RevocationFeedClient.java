@@ -0,0 +1,104 @@
+package jh_platform.gateway.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * auth 서비스 폐기/권한 변경분(GET /api/auth/revocations)을 주기적으로 가져와 TokenRevocationCache에 반영
+ *
+ * 요청 처리 중에는 auth 서비스를 호출하지 않고, 서명/만료/폐기/권한 버전을 모두 로컬에서 확인합니다.
+ * - poll-interval-millis마다 마지막으로 받은 순번(since) 이후의 항목만 조회 (남은 항목이 있으면 이어서 조회)
+ * - auth 서비스가 재시작해 epoch가 바뀌면 남아 있는 항목을 처음부터 다시 받음 (이미 반영한 항목은 만료 시까지 유지)
+ * - 조회에 실패하면 이미 받은 변경분으로 계속 검증하고 다음 주기에 같은 순번부터 다시 조회
+ *
+ * 조회는 한 번에 하나만 실행하므로 epoch/sequence는 조회 흐름 안에서만 바뀝니다.
+ */
+@Slf4j
+@Component
+public class RevocationFeedClient {
+
+    private final GatewayAuthProperties.RevocationFeed properties;
+
+    private final TokenRevocationCache tokenRevocationCache;
+
+    private final WebClient webClient;
+
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    private volatile String epoch;
+
+    private volatile long sequence;
+
+    public RevocationFeedClient(GatewayAuthProperties properties,
+                                TokenRevocationCache tokenRevocationCache,
+                                WebClient.Builder webClientBuilder) {
+        this.properties = properties.getRevocationFeed();
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.webClient = webClientBuilder.build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.auth.revocation-feed.poll-interval-millis:1000}")
+    public void poll() {
+        if (!properties.isEnabled() || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        fetchPage()
+                .expand(more -> more ? fetchPage() : Mono.empty())
+                .doFinally(signal -> polling.set(false))
+                .subscribe(more -> { },
+                        e -> log.warn("폐기 변경분 조회 실패: {} ({})", properties.getUri(), e.toString()));
+    }
+
+    /**
+     * 변경분 한 번 조회 후 반영
+     *
+     * @return 아직 가져가지 않은 항목이 남아 있으면 true
+     */
+    private Mono<Boolean> fetchPage() {
+        return Mono.defer(() -> webClient.get()
+                .uri(properties.getUri() + "?epoch={epoch}&since={since}", epoch == null ? "" : epoch, sequence)
+                .headers(headers -> headers.setBasicAuth(properties.getClientId(), properties.getClientSecret()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMillis(properties.getTimeoutMillis()))
+                .map(response -> apply(response.path("data"))));
+    }
+
+    private boolean apply(JsonNode delta) {
+        String receivedEpoch = delta.path("epoch").asText();
+        if (epoch != null && !epoch.equals(receivedEpoch)) {
+            log.info("auth 서비스 폐기 기록 세대 변경: {} -> {}", epoch, receivedEpoch);
+        }
+
+        for (JsonNode event : delta.path("events")) {
+            Instant retainUntil = Instant.ofEpochSecond(event.path("retainUntil").asLong());
+            switch (event.path("type").asText()) {
+                case "TOKEN" -> tokenRevocationCache.revokeToken(event.path("tokenId").asText(), retainUntil);
+                case "USER" -> tokenRevocationCache.revokeBefore(event.path("subject").asText(),
+                        Instant.ofEpochSecond(event.path("revokedBefore").asLong()), retainUntil);
+                case "ROLE_VERSION" -> tokenRevocationCache.roleVersionChanged(event.path("subject").asText(),
+                        event.path("roleVersion").asInt(), retainUntil);
+                default -> log.warn("알 수 없는 폐기 변경분 항목: {}", event);
+            }
+        }
+
+        this.epoch = receivedEpoch;
+        this.sequence = delta.path("sequence").asLong();
+        return delta.path("more").asBoolean();
+    }
+}
@@ -0,0 +1,146 @@
+package jh_platform.gateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jh_platform.gateway.exception.InvalidTokenException;
+import jh_platform.jwt.VerifiedClaims;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이에서 거부할 access token 기록 (게이트웨이 인스턴스별 메모리, 요청 처리 중에는 조회만 수행)
+ *
+ * - 이 게이트웨이를 거친 로그아웃: /api/auth/logout 응답이 성공하면 그 요청의 토큰 jti (LogoutRevocationFilter)
+ * - auth 서비스의 폐기/권한 변경분: RevocationFeedClient가 주기적으로 가져와 반영
+ *   - jti 폐기, 사용자 단위 폐기(기준 시각까지 발급된 토큰), 사용자별 최신 권한 버전(rv)
+ *
+ * 모든 항목은 거부할 토큰이 모두 만료되는 시각에 제거합니다.
+ */
+@Component
+public class TokenRevocationCache {
+
+    /**
+     * jti -> 토큰 만료 시각
+     */
+    private final Cache<String, Instant> revokedTokens;
+
+    /**
+     * 사용자명 -> 이 시각(같은 초 포함)까지 발급된 토큰 폐기
+     */
+    private final Cache<String, Expiring<Instant>> revokedBefore;
+
+    /**
+     * 사용자명 -> 최신 권한 버전 (rv 클레임이 이보다 낮으면 거부)
+     */
+    private final Cache<String, Expiring<Integer>> roleVersions;
+
+    public TokenRevocationCache(GatewayAuthProperties properties) {
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getRevocationMaximumSize())
+                .expireAfter(new ValueExpiry<String, Instant>(Function.identity()))
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .maximumSize(properties.getRevocationMaximumSize())
+                .expireAfter(new ValueExpiry<String, Expiring<Instant>>(Expiring::retainUntil))
+                .build();
+        this.roleVersions = Caffeine.newBuilder()
+                .maximumSize(properties.getRevocationMaximumSize())
+                .expireAfter(new ValueExpiry<String, Expiring<Integer>>(Expiring::retainUntil))
+                .build();
+    }
+
+    /**
+     * 이 게이트웨이를 거쳐 로그아웃한 토큰 폐기
+     */
+    public void revoke(VerifiedClaims token) {
+        if (token.tokenId() != null && token.expiresAt() != null) {
+            revokeToken(token.tokenId(), token.expiresAt());
+        }
+    }
+
+    /**
+     * jti 폐기 (auth 서비스 변경분)
+     *
+     * @param tokenId   jti
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+    }
+
+    /**
+     * 사용자 단위 폐기 (auth 서비스 변경분, 기준 시각은 더 늦은 쪽을 유지)
+     *
+     * @param username      사용자명
+     * @param revokedBefore 이 시각(같은 초 포함)까지 발급된 토큰 폐기
+     * @param retainUntil   기록을 유지할 시각
+     */
+    public void revokeBefore(String username, Instant revokedBefore, Instant retainUntil) {
+        this.revokedBefore.asMap().merge(username, new Expiring<>(revokedBefore, retainUntil),
+                (current, updated) -> updated.value().isAfter(current.value()) ? updated : current);
+    }
+
+    /**
+     * 권한 버전 변경 (auth 서비스 변경분, 더 높은 버전을 유지)
+     *
+     * @param username    사용자명
+     * @param roleVersion 변경 후 권한 버전
+     * @param retainUntil 기록을 유지할 시각
+     */
+    public void roleVersionChanged(String username, int roleVersion, Instant retainUntil) {
+        roleVersions.asMap().merge(username, new Expiring<>(roleVersion, retainUntil),
+                (current, updated) -> updated.value() > current.value() ? updated : current);
+    }
+
+    /**
+     * 거부 사유 확인 (메모리 조회만 수행)
+     *
+     * @param token 로컬 검증을 통과한 클레임
+     * @return REVOKED 또는 ROLES_CHANGED, 통과면 null
+     */
+    public InvalidTokenException.Reason check(VerifiedClaims token) {
+        if (token.tokenId() != null && revokedTokens.getIfPresent(token.tokenId()) != null) {
+            return InvalidTokenException.Reason.REVOKED;
+        }
+        Expiring<Instant> cutoff = revokedBefore.getIfPresent(token.subject());
+        if (cutoff != null && token.issuedAt() != null && !token.issuedAt().isAfter(cutoff.value())) {
+            return InvalidTokenException.Reason.REVOKED;
+        }
+        Expiring<Integer> roleVersion = roleVersions.getIfPresent(token.subject());
+        if (roleVersion != null && token.roleVersion() != null && token.roleVersion() < roleVersion.value()) {
+            return InvalidTokenException.Reason.ROLES_CHANGED;
+        }
+        return null;
+    }
+
+    /**
+     * 유지 시각이 있는 값
+     */
+    private record Expiring<T>(T value, Instant retainUntil) {
+    }
+
+    /**
+     * 항목을 값에서 꺼낸 시각에 만료시키는 정책
+     */
+    private record ValueExpiry<K, V>(Function<V, Instant> expiresAt) implements Expiry<K, V> {
+
+        @Override
+        public long expireAfterCreate(K key, V value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt.apply(value)).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package jh_platform.gateway.exception;
+
+import lombok.Getter;
+
+/**
+ * 게이트웨이에서 access token 검증에 실패했을 때 발생하는 예외
+ * (사유는 auth 서비스의 InvalidTokenException.Reason과 같은 이름 사용)
+ */
+@Getter
+public class InvalidTokenException extends RuntimeException {
+
+    /**
+     * 토큰 검증 실패 사유
+     */
+    public enum Reason {
+        /** 만료된 토큰 */
+        EXPIRED,
+        /** 서명이 일치하지 않거나 kid를 알 수 없는 토큰 */
+        BAD_SIGNATURE,
+        /** 형식이 잘못되었거나 지원하지 않는 토큰 (jti 없는 토큰 포함) */
+        MALFORMED,
+        /** 용도가 다른 토큰 (access token 자리에 refresh token을 보낸 경우 등) */
+        WRONG_TYPE,
+        /** 로그아웃으로 폐기된 토큰 (이 게이트웨이를 거친 로그아웃, 또는 auth 서비스 폐기 변경분) */
+        REVOKED,
+        /** 발급 이후 권한이 바뀌어 재발급이 필요한 토큰 (auth 서비스 권한 버전 변경분) */
+        ROLES_CHANGED
+    }
+
+    private final Reason reason;
+
+    public InvalidTokenException(Reason reason) {
+        super("토큰이 유효하지 않습니다.");
+        this.reason = reason;
+    }
+}
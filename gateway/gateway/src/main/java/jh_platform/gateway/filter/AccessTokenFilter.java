@@ -0,0 +1,163 @@
+package jh_platform.gateway.filter;
+
+import jh_platform.gateway.config.AccessTokenVerifier;
+import jh_platform.gateway.config.GatewayAuthProperties;
+import jh_platform.gateway.config.TokenRevocationCache;
+import jh_platform.gateway.exception.InvalidTokenException;
+import jh_platform.jwt.VerifiedClaims;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * access token 검증 + 신뢰 헤더 주입 필터 (모든 라우트에 적용)
+ *
+ * 동작 방식:
+ * 1. 클라이언트가 보낸 X-Auth-* 헤더 제거 (위조 방지)
+ * 2. accessToken 쿠키를 로컬에서 검증 (서명/만료/토큰 종류/jti)
+ * 3. 폐기/권한 버전 확인 (TokenRevocationCache, 이 인스턴스의 로그아웃 + RevocationFeedClient가 가져온 auth 서비스 변경분)
+ *    요청 처리 중에는 auth 서비스를 호출하지 않음
+ * 4. 유효하면 X-Auth-User, X-Auth-Roles, X-Auth-Session-Id, X-Auth-Role-Version 헤더를 붙여 백엔드로 전달
+ * 5. 토큰이 없거나 유효하지 않으면 public-paths는 그대로 전달, 나머지는 401 (ApiResponse 형식)
+ *
+ * 백엔드 서비스는 게이트웨이를 통해서만 접근 가능하다는 전제로 이 헤더를 그대로 믿고 토큰을 다시 검증하지 않습니다.
+ */
+@Component
+public class AccessTokenFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 검증된 토큰을 담는 exchange 속성 이름 (LogoutRevocationFilter에서 사용)
+     */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = AccessTokenFilter.class.getName() + ".VERIFIED_TOKEN";
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private static final String ACCESS_TOKEN_COOKIE = "accessToken";
+
+    private static final byte[] UNAUTHORIZED_BODY =
+            "{\"success\":false,\"code\":401,\"message\":\"인증이 필요합니다.\",\"data\":null}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final AccessTokenVerifier accessTokenVerifier;
+
+    private final TokenRevocationCache tokenRevocationCache;
+
+    private final String headerPrefix;
+
+    private final List<PathPattern> publicPaths;
+
+    public AccessTokenFilter(AccessTokenVerifier accessTokenVerifier,
+                             TokenRevocationCache tokenRevocationCache,
+                             GatewayAuthProperties properties) {
+        this.accessTokenVerifier = accessTokenVerifier;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.headerPrefix = properties.getHeaderPrefix();
+        this.publicPaths = properties.getPublicPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(ACCESS_TOKEN_COOKIE);
+        if (cookie == null || cookie.getValue().isEmpty()) {
+            return forward(exchange, chain, null, null);
+        }
+
+        VerifiedClaims token;
+        try {
+            token = accessTokenVerifier.verify(cookie.getValue());
+        } catch (InvalidTokenException e) {
+            return forward(exchange, chain, null, e.getReason());
+        }
+        InvalidTokenException.Reason revoked = tokenRevocationCache.check(token);
+        if (revoked != null) {
+            return forward(exchange, chain, null, revoked);
+        }
+        return forward(exchange, chain, token, null);
+    }
+
+    /**
+     * 신뢰 헤더를 정리해 백엔드로 전달 (토큰이 없고 public-paths도 아니면 401)
+     *
+     * @param token   검증된 클레임, 없거나 유효하지 않으면 null
+     * @param failure 토큰이 유효하지 않은 사유, 토큰이 없으면 null
+     */
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain,
+                               VerifiedClaims token, InvalidTokenException.Reason failure) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (token == null && !isPublicPath(request)) {
+            return unauthorized(exchange, failure);
+        }
+
+        ServerHttpRequest mutated = request.mutate()
+                .headers(headers -> {
+                    removeTrustedHeaders(headers);
+                    if (token != null) {
+                        headers.set(headerPrefix + "User", token.subject());
+                        headers.set(headerPrefix + "Roles", String.join(",", token.roles()));
+                        if (token.sessionId() != null) {
+                            headers.set(headerPrefix + "Session-Id", token.sessionId());
+                        }
+                        if (token.roleVersion() != null) {
+                            headers.set(headerPrefix + "Role-Version", String.valueOf(token.roleVersion()));
+                        }
+                    }
+                })
+                .build();
+        if (token != null) {
+            exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, token);
+        }
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean isPublicPath(ServerHttpRequest request) {
+        for (PathPattern pattern : publicPaths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeTrustedHeaders(HttpHeaders headers) {
+        for (String name : new ArrayList<>(headers.keySet())) {
+            if (name.regionMatches(true, 0, headerPrefix, 0, headerPrefix.length())) {
+                headers.remove(name);
+            }
+        }
+    }
+
+    /**
+     * auth 서비스와 같은 401 응답 (클라이언트는 /api/auth/refresh로 재발급 후 재시도)
+     */
+    private static Mono<Void> unauthorized(ServerWebExchange exchange, InvalidTokenException.Reason failure) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (failure != null) {
+            response.getHeaders().set("X-Auth-Error", failure.name());
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(UNAUTHORIZED_BODY)));
+    }
+}
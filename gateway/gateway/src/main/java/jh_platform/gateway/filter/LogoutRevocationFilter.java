@@ -0,0 +1,50 @@
+package jh_platform.gateway.filter;
+
+import jh_platform.gateway.config.TokenRevocationCache;
+import jh_platform.jwt.VerifiedClaims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그아웃 성공 시 해당 access token을 게이트웨이에서도 폐기하는 필터
+ *
+ * POST /api/auth/logout이 2xx로 끝나면 요청에 쓰인 토큰을 TokenRevocationCache에 기록해 이 인스턴스에서는 바로 거부합니다.
+ * (다른 인스턴스, allSessions 로그아웃의 다른 세션 토큰은 RevocationFeedClient가 poll-interval-millis 안에 가져와 거부)
+ */
+@Component
+@RequiredArgsConstructor
+public class LogoutRevocationFilter implements GlobalFilter, Ordered {
+
+    private static final String LOGOUT_PATH = "/api/auth/logout";
+
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        VerifiedClaims token = exchange.getAttribute(AccessTokenFilter.VERIFIED_TOKEN_ATTRIBUTE);
+        if (token == null
+                || exchange.getRequest().getMethod() != HttpMethod.POST
+                || !LOGOUT_PATH.equals(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (status != null && status.is2xxSuccessful()) {
+                tokenRevocationCache.revoke(token);
+            }
+        }));
+    }
+
+    @Override
+    public int getOrder() {
+        return AccessTokenFilter.ORDER + 1;
+    }
+}
@@ -0,0 +1,432 @@
+package jh_platform.gateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jh_platform.jwt.JwtVerifier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AccessTokenFilter/LogoutRevocationFilter 동작 확인
+ *
+ * 백엔드(auth, chat)는 JDK HttpServer 스텁 하나로 대신합니다.
+ * 스텁은 받은 요청 헤더를 기록하고, JWKS와 폐기 변경분(/api/auth/revocations) 응답을 테스트에서 바꿀 수 있습니다.
+ * 변경분은 게이트웨이가 주기적으로 가져가므로, 폐기/권한 변경 테스트는 사용자명을 서로 다르게 씁니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccessTokenFilterTest {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtAuth1234567890";
+
+    private static final Key HMAC_KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private static final String FEED_SECRET = "gateway-secret";
+
+    private static final String UNAUTHORIZED_BODY =
+            "{\"success\":false,\"code\":401,\"message\":\"인증이 필요합니다.\",\"data\":null}";
+
+    private static final StubBackend backend = StubBackend.start();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("AUTH_SERVICE_URI", backend::uri);
+        registry.add("CHAT_SERVICE_URI", backend::uri);
+        registry.add("gateway.auth.algorithm", () -> "RS256");
+        registry.add("gateway.auth.secret", () -> SECRET);
+        registry.add("gateway.auth.jwks-min-refresh-interval-millis", () -> 0);
+        registry.add("gateway.auth.revocation-feed.client-secret", () -> FEED_SECRET);
+        registry.add("gateway.auth.revocation-feed.poll-interval-millis", () -> 50);
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop();
+    }
+
+    @BeforeEach
+    void resetBackend() {
+        backend.reset();
+    }
+
+    @Test
+    void replacesClientSuppliedAuthHeadersWithVerifiedClaims() {
+        String token = accessToken("user1").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        webTestClient.get().uri("/api/chat/rooms")
+                .cookie("accessToken", token)
+                .header("X-Auth-User", "admin")
+                .header("X-Auth-Roles", "ADMIN")
+                .header("x-auth-extra", "forged")
+                .exchange()
+                .expectStatus().isOk();
+
+        Map<String, List<String>> headers = backend.lastHeaders();
+        assertThat(headers.get("X-Auth-User")).containsExactly("user1");
+        assertThat(headers.get("X-Auth-Roles")).containsExactly("USER");
+        assertThat(headers.get("X-Auth-Session-Id")).containsExactly("sid-1");
+        assertThat(headers.get("X-Auth-Role-Version")).containsExactly("1");
+        assertThat(headers).doesNotContainKey("X-Auth-Extra");
+    }
+
+    @Test
+    void publicPathPassesWithoutTokenAndWithoutAuthHeaders() {
+        webTestClient.post().uri("/api/auth/login")
+                .header("X-Auth-User", "admin")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(backend.lastHeaders()).doesNotContainKey("X-Auth-User");
+    }
+
+    @Test
+    void protectedPathWithoutTokenReturnsUnauthorizedBody() {
+        webTestClient.get().uri("/api/chat/rooms")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().doesNotExist("X-Auth-Error")
+                .expectBody().json(UNAUTHORIZED_BODY, true);
+
+        assertThat(backend.lastHeaders()).isNull();
+    }
+
+    @Test
+    void rejectsRefreshToken() {
+        String refreshToken = token(JwtVerifier.REFRESH_TOKEN_USE, UUID.randomUUID().toString(), "user1")
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        expectUnauthorized(refreshToken, "WRONG_TYPE");
+    }
+
+    @Test
+    void rejectsAccessTokenWithoutJti() {
+        String token = token(JwtVerifier.ACCESS_TOKEN_USE, null, "user1")
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        expectUnauthorized(token, "MALFORMED");
+    }
+
+    @Test
+    void revokesTokenAfterLogout() {
+        String token = accessToken("user1").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+        webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", token)
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post().uri("/api/auth/logout").cookie("accessToken", token)
+                .exchange()
+                .expectStatus().isOk();
+
+        expectUnauthorized(token, "REVOKED");
+    }
+
+    @Test
+    void rejectsTokenRevokedByAuthService() throws InterruptedException {
+        String jti = UUID.randomUUID().toString();
+        String token = accessToken("feed-token", jti).signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+        String other = accessToken("feed-token").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        backend.revokeToken(jti);
+
+        assertThat(awaitStatus(token, HttpStatus.UNAUTHORIZED).value()).isEqualTo(401);
+        expectUnauthorized(token, "REVOKED");
+        webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", other)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void rejectsTokensIssuedBeforeLogoutAll() throws InterruptedException {
+        String token = accessToken("feed-user").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        backend.revokeUser("feed-user");
+
+        assertThat(awaitStatus(token, HttpStatus.UNAUTHORIZED).value()).isEqualTo(401);
+        expectUnauthorized(token, "REVOKED");
+    }
+
+    @Test
+    void rejectsTokenWithStaleRoleVersion() throws InterruptedException {
+        String token = accessToken("feed-role").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        backend.changeRoleVersion("feed-role", 2);
+
+        assertThat(awaitStatus(token, HttpStatus.UNAUTHORIZED).value()).isEqualTo(401);
+        expectUnauthorized(token, "ROLES_CHANGED");
+    }
+
+    @Test
+    void keepsLastKnownRevocationsWhenAuthServiceFails() throws InterruptedException {
+        String jti = UUID.randomUUID().toString();
+        String token = accessToken("feed-outage", jti).signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+        backend.revokeToken(jti);
+        assertThat(awaitStatus(token, HttpStatus.UNAUTHORIZED).value()).isEqualTo(401);
+
+        backend.failFeed();
+        Thread.sleep(200);
+
+        expectUnauthorized(token, "REVOKED");
+        // 요청 처리는 auth 서비스 응답과 무관
+        String other = accessToken("feed-outage").signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+        webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", other)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void refreshesJwksOnUnknownKid() throws InterruptedException {
+        KeyPair rotated = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        String kid = "k-" + UUID.randomUUID();
+        String token = accessToken("user1")
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .signWith(rotated.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        expectUnauthorized(token, "BAD_SIGNATURE");
+
+        // 모르는 kid로 JWKS를 다시 받으므로, 새 키를 공개하면 곧 통과
+        backend.publishKey(kid, (RSAPublicKey) rotated.getPublic());
+        HttpStatusCode status = HttpStatus.UNAUTHORIZED;
+        for (int i = 0; i < 50 && !status.is2xxSuccessful(); i++) {
+            Thread.sleep(100);
+            status = webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", token)
+                    .exchange()
+                    .returnResult(Void.class)
+                    .getStatus();
+        }
+        assertThat(status.value()).isEqualTo(200);
+        assertThat(backend.lastHeaders().get("X-Auth-User")).containsExactly("user1");
+    }
+
+    /**
+     * 게이트웨이가 변경분을 가져갈 때까지 같은 요청을 반복 (최대 5초)
+     */
+    private HttpStatusCode awaitStatus(String token, HttpStatusCode expected) throws InterruptedException {
+        HttpStatusCode status = null;
+        for (int i = 0; i < 50 && !expected.equals(status); i++) {
+            if (status != null) {
+                Thread.sleep(100);
+            }
+            status = webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", token)
+                    .exchange()
+                    .returnResult(Void.class)
+                    .getStatus();
+        }
+        return status;
+    }
+
+    private void expectUnauthorized(String token, String reason) {
+        webTestClient.get().uri("/api/chat/rooms").cookie("accessToken", token)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals("X-Auth-Error", reason)
+                .expectBody().json(UNAUTHORIZED_BODY, true);
+    }
+
+    private static JwtBuilder accessToken(String subject) {
+        return accessToken(subject, UUID.randomUUID().toString());
+    }
+
+    private static JwtBuilder accessToken(String subject, String jti) {
+        return token(JwtVerifier.ACCESS_TOKEN_USE, jti, subject)
+                .claim(JwtVerifier.SESSION_ID_CLAIM, "sid-1")
+                .claim(JwtVerifier.ROLES_CLAIM, List.of("USER"))
+                .claim(JwtVerifier.ROLE_VERSION_CLAIM, 1);
+    }
+
+    private static JwtBuilder token(String tokenUse, String jti, String subject) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(subject)
+                .claim(JwtVerifier.TOKEN_USE_CLAIM, tokenUse)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (jti != null) {
+            builder.setId(jti);
+        }
+        return builder;
+    }
+
+    /**
+     * auth/chat 서비스 대신 응답하는 스텁 서버
+     */
+    private static final class StubBackend {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        private final HttpServer server;
+
+        private final Map<String, RSAPublicKey> publishedKeys = new ConcurrentHashMap<>();
+
+        /**
+         * 폐기 변경분 (순번 순, reset으로 지우지 않음)
+         */
+        private final List<Map<String, Object>> revocationEvents = new ArrayList<>();
+
+        private volatile Map<String, List<String>> lastHeaders;
+
+        private volatile boolean feedFails;
+
+        private StubBackend(HttpServer server) {
+            this.server = server;
+        }
+
+        static StubBackend start() {
+            try {
+                StubBackend backend = new StubBackend(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0));
+                backend.server.createContext("/", backend::handle);
+                backend.server.start();
+                return backend;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        String uri() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        void reset() {
+            lastHeaders = null;
+            feedFails = false;
+        }
+
+        Map<String, List<String>> lastHeaders() {
+            return lastHeaders;
+        }
+
+        void revokeToken(String tokenId) {
+            addEvent(Map.of("type", "TOKEN", "tokenId", tokenId));
+        }
+
+        void revokeUser(String username) {
+            // 같은 초에 발급된 토큰까지 폐기 (auth 서비스와 같은 기준)
+            addEvent(Map.of("type", "USER", "subject", username,
+                    "revokedBefore", System.currentTimeMillis() / 1000 + 1));
+        }
+
+        void changeRoleVersion(String username, int roleVersion) {
+            addEvent(Map.of("type", "ROLE_VERSION", "subject", username, "roleVersion", roleVersion));
+        }
+
+        void failFeed() {
+            feedFails = true;
+        }
+
+        private void addEvent(Map<String, Object> event) {
+            synchronized (revocationEvents) {
+                Map<String, Object> sequenced = new TreeMap<>(event);
+                sequenced.put("sequence", revocationEvents.size() + 1L);
+                sequenced.put("retainUntil", System.currentTimeMillis() / 1000 + 60);
+                revocationEvents.add(sequenced);
+            }
+        }
+
+        void publishKey(String kid, RSAPublicKey key) {
+            publishedKeys.put(kid, key);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/.well-known/jwks.json")) {
+                respond(exchange, 200, jwks());
+            } else if (path.equals("/api/auth/revocations")) {
+                revocations(exchange);
+            } else {
+                Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                headers.putAll(exchange.getRequestHeaders());
+                lastHeaders = headers;
+                respond(exchange, 200, "{\"success\":true,\"code\":200,\"message\":\"ok\",\"data\":null}");
+            }
+        }
+
+        private void revocations(HttpExchange exchange) throws IOException {
+            String expected = "Basic " + Base64.getEncoder().encodeToString(
+                    ("gateway:" + FEED_SECRET).getBytes(StandardCharsets.UTF_8));
+            if (feedFails || !expected.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, feedFails ? 500 : 401, "{}");
+                return;
+            }
+
+            long since = 0;
+            for (String param : exchange.getRequestURI().getQuery().split("&")) {
+                if (param.startsWith("since=")) {
+                    since = Long.parseLong(param.substring("since=".length()));
+                }
+            }
+            List<Map<String, Object>> events;
+            synchronized (revocationEvents) {
+                events = List.copyOf(revocationEvents.subList((int) Math.min(since, revocationEvents.size()),
+                        revocationEvents.size()));
+            }
+            long sequence = since + events.size();
+            respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(Map.of(
+                    "success", true, "code", 200, "message", "폐기 변경분 조회 완료",
+                    "data", Map.of("epoch", "stub", "sequence", sequence, "more", false, "events", events))));
+        }
+
+        private String jwks() throws IOException {
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            List<Map<String, String>> keys = new ArrayList<>();
+            publishedKeys.forEach((kid, key) -> keys.add(Map.of(
+                    "kty", "RSA",
+                    "kid", kid,
+                    "alg", "RS256",
+                    "use", "sig",
+                    "n", encoder.encodeToString(key.getModulus().toByteArray()),
+                    "e", encoder.encodeToString(key.getPublicExponent().toByteArray()))));
+            return OBJECT_MAPPER.writeValueAsString(Map.of("keys", keys));
+        }
+
+        private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}